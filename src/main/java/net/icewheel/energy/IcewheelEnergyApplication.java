@@ -19,12 +19,8 @@
 
 package net.icewheel.energy;
 
-import net.icewheel.energy.application.scheduling.MisfireHandlingService;
-
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -37,11 +33,4 @@ public class IcewheelEnergyApplication {
 		SpringApplication.run(IcewheelEnergyApplication.class, args);
 	}
 
-	@Bean
-	public CommandLineRunner runMisfireHandler(MisfireHandlingService misfireHandlingService) {
-		return args -> {
-			misfireHandlingService.handleMisfiredSchedules();
-		};
-	}
-
 }
@@ -20,19 +20,32 @@
 package net.icewheel.energy.api.rest.controller;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.api.rest.dto.ScheduleHistorySliceResponse;
 import net.icewheel.energy.api.rest.dto.ScheduleRequest;
+import net.icewheel.energy.application.scheduling.HistoryCursor;
+import net.icewheel.energy.application.scheduling.HistoryExportFormat;
+import net.icewheel.energy.application.scheduling.HistoryExportService;
 import net.icewheel.energy.application.scheduling.ImportResult;
 import net.icewheel.energy.application.scheduling.PowerwallScheduleService;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.exception.ScheduleImportException;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.UserService;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -44,7 +57,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/schedules")
@@ -53,14 +69,86 @@ import org.springframework.web.multipart.MultipartFile;
 public class ScheduleApiController {
 
 	private final PowerwallScheduleService scheduleService;
+	private final HistoryExportService historyExportService;
+	private final ExecutionHistoryConfig historyConfig;
 	private final UserService userService;
 	private final ObjectMapper objectMapper;
 
+	/**
+	 * All schedules as a JSON array, written as they are read.
+	 */
 	@GetMapping("/export")
-	public ResponseEntity<List<ScheduleRequest>> exportSchedules(@AuthenticationPrincipal OAuth2User principal) {
+	public ResponseEntity<StreamingResponseBody> exportSchedules(@AuthenticationPrincipal OAuth2User principal) {
 		User user = userService.findOrCreateUser(principal);
+		StreamingResponseBody body = out -> {
+			try (SequenceWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValuesAsArray(out)) {
+				scheduleService.exportSchedules(user, schedule -> {
+					try {
+						writer.write(schedule);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		};
 		return ResponseEntity.ok().header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schedules.json\"")
-				.body(scheduleService.getSchedulesForExport(user));
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body);
+	}
+
+	/**
+	 * The whole schedule change history, newest first, as NDJSON or CSV (gzip-compressed unless {@code gzip=false}).
+	 */
+	@GetMapping("/history/export")
+	public ResponseEntity<StreamingResponseBody> exportScheduleHistory(@AuthenticationPrincipal OAuth2User principal,
+			@RequestParam(name = "format", defaultValue = "ndjson") String format,
+			@RequestParam(name = "gzip", defaultValue = "true") boolean gzip,
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+			HttpServletRequest request) {
+		User user = userService.findOrCreateUser(principal);
+		return exportHistory("schedule-history", format, gzip, request,
+				(exportFormat, out) -> historyExportService.exportAuditEvents(user, from, to, exportFormat, out));
+	}
+
+	/**
+	 * The whole schedule execution history, newest first, as NDJSON or CSV (gzip-compressed unless {@code gzip=false}).
+	 */
+	@GetMapping("/executions/export")
+	public ResponseEntity<StreamingResponseBody> exportScheduleExecutionHistory(@AuthenticationPrincipal OAuth2User principal,
+			@RequestParam(name = "format", defaultValue = "ndjson") String format,
+			@RequestParam(name = "gzip", defaultValue = "true") boolean gzip,
+			@RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+			@RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+			HttpServletRequest request) {
+		User user = userService.findOrCreateUser(principal);
+		return exportHistory("schedule-executions", format, gzip, request,
+				(exportFormat, out) -> historyExportService.exportExecutions(user, from, to, exportFormat, out));
+	}
+
+	/**
+	 * Schedule change history, newest first. Follow {@code nextCursor} to page back in time.
+	 */
+	@GetMapping("/history")
+	public ScheduleHistorySliceResponse getScheduleHistory(@AuthenticationPrincipal OAuth2User principal,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "20") int size,
+			@RequestParam(name = "count", defaultValue = "false") boolean includeCount) {
+		User user = userService.findOrCreateUser(principal);
+		return scheduleService.getScheduleHistory(user, cursor, HistoryCursor.clampPageSize(size), includeCount);
+	}
+
+	/**
+	 * Schedule execution history, newest first. Follow {@code nextCursor} to page back in time.
+	 */
+	@GetMapping("/executions")
+	public ScheduleHistorySliceResponse getScheduleExecutionHistory(@AuthenticationPrincipal OAuth2User principal,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "size", defaultValue = "20") int size,
+			@RequestParam(name = "count", defaultValue = "false") boolean includeCount) {
+		User user = userService.findOrCreateUser(principal);
+		return scheduleService.getScheduleExecutionHistory(user, cursor, HistoryCursor.clampPageSize(size), includeCount);
 	}
 
 	@PostMapping("/import")
@@ -119,4 +207,45 @@ public class ScheduleApiController {
 					.body("Import failed: Could not parse the JSON file. Please ensure it is well-formed.");
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Streams an export on an async thread after this method returns, so the export holds a database connection
+	 * only while rows are flowing to the client.
+	 * <p>
+	 * Why: Downloads of a large history outlast the container's default async timeout, so only this request gets
+	 * the longer {@code app.execution-history.export-timeout}. A download also holds a connection for its whole
+	 * duration, so the number running at once is capped and further requests are turned away with 429.
+	 * </p>
+	 */
+	private ResponseEntity<StreamingResponseBody> exportHistory(String fileName, String format, boolean gzip,
+			HttpServletRequest request, HistoryExporter exporter) {
+		HistoryExportFormat exportFormat = HistoryExportFormat.fromParameter(format)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + format));
+		HistoryExportService.ExportSlot slot = historyExportService.tryReserveExport()
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+						"Too many history exports are running. Please try again later."));
+		WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(historyConfig.getExportTimeout().toMillis());
+		StreamingResponseBody body = out -> {
+			try (slot) {
+				if (gzip) {
+					try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+						exporter.export(exportFormat, compressed);
+					}
+				}
+				else {
+					exporter.export(exportFormat, out);
+				}
+			}
+		};
+		String file = fileName + "." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file + "\"")
+				.contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+				.body(body);
+	}
+
+	@FunctionalInterface
+	private interface HistoryExporter {
+		long export(HistoryExportFormat format, OutputStream out) throws IOException;
+	}
+}
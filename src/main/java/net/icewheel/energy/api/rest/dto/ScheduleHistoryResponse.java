@@ -20,6 +20,7 @@
 package net.icewheel.energy.api.rest.dto;
 
 import java.time.Instant;
+import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -33,4 +34,5 @@ public class ScheduleHistoryResponse {
     private String scheduleName;
     private Object details;
     private ScheduleExecutionHistory.ExecutionStatus status;
+	private UUID id;
 }
\ No newline at end of file
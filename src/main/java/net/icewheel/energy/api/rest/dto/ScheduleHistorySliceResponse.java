@@ -0,0 +1,62 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.api.rest.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One page of a history list, addressed by cursor rather than page number.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleHistorySliceResponse {
+
+	private List<ScheduleHistoryResponse> items;
+
+	/**
+	 * Cursor for the next (older) page, or null on the last page.
+	 */
+	private String nextCursor;
+
+	/**
+	 * Number of entries, counted up to a cap so the count stays cheap; null when not requested.
+	 */
+	private Long approximateCount;
+
+	/**
+	 * True if there are more entries than {@link #approximateCount}.
+	 */
+	private Boolean approximateCountCapped;
+
+	@JsonIgnore
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -21,15 +21,13 @@ package net.icewheel.energy.api.web.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.application.scheduling.HistoryCursor;
 import net.icewheel.energy.application.scheduling.PowerwallScheduleService;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.TokenService;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.UserService;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -70,32 +68,33 @@ public class SchedulePageController {
 
     @GetMapping("/schedules/history")
 	public String getScheduleHistoryPage(Model model, @AuthenticationPrincipal OAuth2User principal,
-			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "cursor", required = false) String cursor,
 			@RequestParam(name = "size", defaultValue = "20") int size) {
         User user = userService.findOrCreateUser(principal);
 		if (!tokenService.isUserConnected(user)) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Tesla account not connected");
 		}
-		// Why: Use pagination to handle potentially large history logs efficiently, improving performance and user experience.
-		Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
-		model.addAttribute("historyPage", scheduleService.getScheduleHistory(user, pageable));
+		// Why: Cursor pagination keeps every page as cheap as the first, however long the history grows.
+		// The approximate count is only shown on the first page.
+		int pageSize = HistoryCursor.clampPageSize(size);
+		model.addAttribute("historyPage", scheduleService.getScheduleHistory(user, cursor, pageSize, cursor == null));
+		model.addAttribute("pageSize", pageSize);
         model.addAttribute("activePage", "schedules");
         return "schedule-history";
     }
 
     @GetMapping("/schedules/executions")
 	public String getScheduleExecutionHistoryPage(Model model, @AuthenticationPrincipal OAuth2User principal,
-			@RequestParam(name = "page", defaultValue = "0") int page,
+			@RequestParam(name = "cursor", required = false) String cursor,
 			@RequestParam(name = "size", defaultValue = "20") int size) {
         User user = userService.findOrCreateUser(principal);
 		if (!tokenService.isUserConnected(user)) {
 			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Tesla account not connected");
 		}
-		// Why: Use pagination to handle potentially large execution logs efficiently, improving performance and user experience.
-		// The service layer must be updated to accept a Pageable object.
-		Pageable pageable = PageRequest.of(page, size, Sort.by("executionTime").descending());
-		model.addAttribute("executionPage", scheduleService.getScheduleExecutionHistory(user, pageable));
+		int pageSize = HistoryCursor.clampPageSize(size);
+		model.addAttribute("executionPage", scheduleService.getScheduleExecutionHistory(user, cursor, pageSize, cursor == null));
+		model.addAttribute("pageSize", pageSize);
         model.addAttribute("activePage", "schedules");
         return "schedule-execution-history";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * The rule that decides a site's backup reserve when several schedules apply at once.
+ * <p>
+ * During on-peak the lowest reserve wins, so the battery is free to discharge as far as any schedule allows;
+ * off-peak the highest reserve wins, so it charges as far as any schedule asks. Shared by the executor and the
+ * reconciler so both always resolve overlapping schedules to the same target.
+ * </p>
+ */
+final class BackupReserveTargets {
+
+	private BackupReserveTargets() {
+	}
+
+	static int resolve(boolean onPeak, Collection<Integer> targets) {
+		return onPeak ? Collections.min(targets) : Collections.max(targets);
+	}
+}
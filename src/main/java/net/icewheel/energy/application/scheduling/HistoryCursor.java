@@ -0,0 +1,80 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Position in a history list ordered newest first by (timestamp, id).
+ * The next page holds the entries strictly older than this position.
+ * <p>
+ * Why: Keyset pagination seeks straight to the position through the (user, timestamp, id) index, so every page costs
+ * the same however deep it is, unlike an OFFSET that has to skip all earlier rows.
+ * </p>
+ *
+ * @param timestamp The timestamp of the last entry on the previous page.
+ * @param id The id of that entry, which breaks ties between entries with the same timestamp.
+ */
+public record HistoryCursor(Instant timestamp, UUID id) {
+
+	/**
+	 * The largest page a history list serves, whatever size the client asks for.
+	 */
+	public static final int MAX_PAGE_SIZE = 100;
+
+	/**
+	 * @param size The page size the client asked for.
+	 * @return The size clamped to {@code [1, MAX_PAGE_SIZE]}.
+	 */
+	public static int clampPageSize(int size) {
+		return Math.clamp(size, 1, MAX_PAGE_SIZE);
+	}
+
+	/**
+	 * @return An opaque, URL-safe form of this cursor.
+	 */
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((timestamp + "|" + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Parses a cursor produced by {@link #encode()}.
+	 *
+	 * @param value The encoded cursor; may be null or blank.
+	 * @return The cursor, or empty for a missing or malformed value, which starts from the newest entry.
+	 */
+	public static Optional<HistoryCursor> decode(String value) {
+		if (value == null || value.isBlank()) {
+			return Optional.empty();
+		}
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\|", 2);
+			return Optional.of(new HistoryCursor(Instant.parse(parts[0]), UUID.fromString(parts[1])));
+		}
+		catch (RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * File formats of the history exports.
+ */
+public enum HistoryExportFormat {
+
+	/**
+	 * One JSON object per line.
+	 */
+	NDJSON("application/x-ndjson", "ndjson"),
+
+	/**
+	 * Comma-separated values with a header row; every value is quoted.
+	 */
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String fileExtension;
+
+	HistoryExportFormat(String contentType, String fileExtension) {
+		this.contentType = contentType;
+		this.fileExtension = fileExtension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * Resolves a request parameter such as {@code ndjson} or {@code CSV}.
+	 *
+	 * @param value The parameter value, in any case.
+	 * @return The format, or empty if the value names none.
+	 */
+	public static Optional<HistoryExportFormat> fromParameter(String value) {
+		if (value == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(valueOf(value.trim().toUpperCase(Locale.ROOT)));
+		}
+		catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Streams a user's schedule execution history and schedule audit events to an output stream as NDJSON or CSV.
+ * <p>
+ * Why: An account can hold millions of history rows. Rows are read through a JDBC cursor in batches of
+ * {@link #FETCH_SIZE} and written out one at a time, newest first along the {@code (user_id, time DESC, id DESC)}
+ * indexes, so memory use does not grow with the size of the export and no sort is needed.
+ * </p>
+ * <p>
+ * An export holds a pooled connection, and with it a database concurrency permit, for as long as the client keeps
+ * reading. Callers therefore reserve one of {@code app.execution-history.max-concurrent-exports} slots first, so
+ * that downloads can never take the connections the schedulers need.
+ * </p>
+ */
+@Service
+public class HistoryExportService {
+
+	/**
+	 * Rows fetched per round trip. Why: PostgreSQL only uses a cursor when a fetch size is set and the statement
+	 * runs inside a transaction; otherwise the driver buffers the entire result.
+	 */
+	static final int FETCH_SIZE = 1000;
+
+	private static final List<String> EXECUTION_COLUMNS = List.of("id", "execution_time", "last_seen_at", "occurrences",
+			"schedule_id", "schedule_group_id", "schedule_name", "execution_type", "status", "outcome", "target_percent",
+			"actual_percent", "details", "error_message");
+
+	private static final List<String> AUDIT_COLUMNS = List.of("id", "timestamp", "schedule_group_id", "schedule_name",
+			"action", "details");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Semaphore exportSlots;
+
+	public HistoryExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+			ExecutionHistoryConfig historyConfig) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.exportSlots = new Semaphore(historyConfig.getMaxConcurrentExports());
+	}
+
+	/**
+	 * Reserves a slot for one export without waiting.
+	 *
+	 * @return The slot, to be closed once the export has finished, or empty if the maximum number of exports is
+	 * already running.
+	 */
+	public Optional<ExportSlot> tryReserveExport() {
+		return exportSlots.tryAcquire() ? Optional.of(new ExportSlot(exportSlots)) : Optional.empty();
+	}
+
+	/**
+	 * Writes the user's execution history, newest first.
+	 *
+	 * @param user The owner of the history.
+	 * @param from Only entries at or after this instant; null for no lower bound.
+	 * @param to Only entries before this instant; null for no upper bound.
+	 * @param format The output format.
+	 * @param out Receives the export; not closed.
+	 * @return The number of entries written.
+	 */
+	public long exportExecutions(User user, Instant from, Instant to, HistoryExportFormat format, OutputStream out) throws IOException {
+		List<Object> args = new ArrayList<>();
+		String sql = "SELECT id, execution_time, last_seen_at, occurrences, schedule_id, schedule_group_id, schedule_name, "
+				+ "execution_type, status, outcome, target_percent, actual_percent, on_peak, window_start, window_end, "
+				+ "combined_count, error_message, details FROM schedule_execution_history"
+				+ where(user, "execution_time", from, to, args) + " ORDER BY execution_time DESC, id DESC";
+		return export(sql, args, EXECUTION_COLUMNS, format, out, HistoryExportService::executionRow);
+	}
+
+	/**
+	 * Writes the user's schedule audit events, newest first.
+	 *
+	 * @param user The owner of the events.
+	 * @param from Only events at or after this instant; null for no lower bound.
+	 * @param to Only events before this instant; null for no upper bound.
+	 * @param format The output format.
+	 * @param out Receives the export; not closed.
+	 * @return The number of events written.
+	 */
+	public long exportAuditEvents(User user, Instant from, Instant to, HistoryExportFormat format, OutputStream out) throws IOException {
+		List<Object> args = new ArrayList<>();
+		String sql = "SELECT id, \"timestamp\", schedule_group_id, schedule_name, action, details FROM schedule_audit_events"
+				+ where(user, "\"timestamp\"", from, to, args) + " ORDER BY \"timestamp\" DESC, id DESC";
+		return export(sql, args, AUDIT_COLUMNS, format, out, rs -> new Object[] {
+				rs.getObject("id", UUID.class),
+				instant(rs, "timestamp"),
+				rs.getObject("schedule_group_id", UUID.class),
+				rs.getString("schedule_name"),
+				rs.getString("action"),
+				rawJson(rs.getString("details"))
+		});
+	}
+
+	private long export(String sql, List<Object> args, List<String> columns, HistoryExportFormat format, OutputStream out,
+			RowReader reader) throws IOException {
+		try (RowWriter writer = format == HistoryExportFormat.CSV ? new CsvRowWriter(out, columns)
+				: new NdjsonRowWriter(objectMapper.getFactory(), out, columns)) {
+			long[] rows = {0};
+			RowCallbackHandler handler = rs -> {
+				try {
+					writer.write(reader.read(rs));
+					rows[0]++;
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			};
+			try {
+				readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+					PreparedStatement statement = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+					statement.setFetchSize(FETCH_SIZE);
+					for (int i = 0; i < args.size(); i++) {
+						statement.setObject(i + 1, args.get(i));
+					}
+					return statement;
+				}, handler));
+			}
+			catch (UncheckedIOException e) {
+				// Why: Usually the client went away; the cursor and its transaction are already closed at this point.
+				throw e.getCause();
+			}
+			return rows[0];
+		}
+	}
+
+	private static String where(User user, String timeColumn, Instant from, Instant to, List<Object> args) {
+		StringBuilder where = new StringBuilder(" WHERE user_id = ?");
+		args.add(user.getId());
+		if (from != null) {
+			where.append(" AND ").append(timeColumn).append(" >= ?");
+			args.add(Timestamp.from(from));
+		}
+		if (to != null) {
+			where.append(" AND ").append(timeColumn).append(" < ?");
+			args.add(Timestamp.from(to));
+		}
+		return where.toString();
+	}
+
+	/**
+	 * Reads one history row. Why: The English description is rendered by the entity from the outcome code and its
+	 * parameters, so each row is loaded into a short-lived, unmanaged instance just for that.
+	 */
+	private static Object[] executionRow(ResultSet rs) throws SQLException {
+		ScheduleExecutionHistory entry = new ScheduleExecutionHistory();
+		entry.setScheduleName(rs.getString("schedule_name"));
+		entry.setLastSeenAt(instant(rs, "last_seen_at"));
+		entry.setOccurrences(rs.getInt("occurrences"));
+		String outcome = rs.getString("outcome");
+		entry.setOutcome(outcome != null ? ScheduleExecutionHistory.Outcome.valueOf(outcome) : null);
+		entry.setTargetPercent(shortOrNull(rs, "target_percent"));
+		entry.setActualPercent(shortOrNull(rs, "actual_percent"));
+		boolean onPeak = rs.getBoolean("on_peak");
+		entry.setOnPeak(rs.wasNull() ? null : onPeak);
+		entry.setWindowStart(rs.getObject("window_start", LocalTime.class));
+		entry.setWindowEnd(rs.getObject("window_end", LocalTime.class));
+		entry.setCombinedCount(shortOrNull(rs, "combined_count"));
+		entry.setErrorMessage(rs.getString("error_message"));
+		entry.setDetails(rs.getString("details"));
+		return new Object[] {
+				rs.getObject("id", UUID.class),
+				instant(rs, "execution_time"),
+				entry.getLastSeenAt(),
+				entry.getOccurrences(),
+				rs.getObject("schedule_id", UUID.class),
+				rs.getObject("schedule_group_id", UUID.class),
+				entry.getScheduleName(),
+				rs.getString("execution_type"),
+				rs.getString("status"),
+				outcome,
+				entry.getTargetPercent(),
+				entry.getActualPercent(),
+				entry.getDetails(),
+				entry.getErrorMessage()
+		};
+	}
+
+	private static Instant instant(ResultSet rs, String column) throws SQLException {
+		Timestamp timestamp = rs.getTimestamp(column);
+		return timestamp != null ? timestamp.toInstant() : null;
+	}
+
+	private static Short shortOrNull(ResultSet rs, String column) throws SQLException {
+		short value = rs.getShort(column);
+		return rs.wasNull() ? null : value;
+	}
+
+	private static RawJson rawJson(String json) {
+		return json != null ? new RawJson(json) : null;
+	}
+
+	/**
+	 * A reserved export slot; closing it, at most once, lets the next export start.
+	 */
+	public static final class ExportSlot implements AutoCloseable {
+
+		private final Semaphore slots;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private ExportSlot(Semaphore slots) {
+			this.slots = slots;
+		}
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				slots.release();
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface RowReader {
+		Object[] read(ResultSet rs) throws SQLException;
+	}
+
+	/**
+	 * A value that is already JSON text, such as the audit event details; embedded as-is in NDJSON.
+	 */
+	private record RawJson(String json) {
+		@Override
+		public String toString() {
+			return json;
+		}
+	}
+
+	private interface RowWriter extends AutoCloseable {
+		void write(Object[] values) throws IOException;
+
+		@Override
+		void close() throws IOException;
+	}
+
+	private static final class NdjsonRowWriter implements RowWriter {
+
+		private final JsonGenerator generator;
+		private final List<String> columns;
+
+		NdjsonRowWriter(JsonFactory factory, OutputStream out, List<String> columns) throws IOException {
+			this.generator = factory.createGenerator(out);
+			this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			this.generator.setRootValueSeparator(null);
+			this.columns = columns;
+		}
+
+		@Override
+		public void write(Object[] values) throws IOException {
+			generator.writeStartObject();
+			for (int i = 0; i < values.length; i++) {
+				Object value = values[i];
+				generator.writeFieldName(columns.get(i));
+				switch (value) {
+					case null -> generator.writeNull();
+					case Number number -> generator.writeNumber(number.longValue());
+					case RawJson raw -> generator.writeRawValue(raw.json());
+					default -> generator.writeString(value.toString());
+				}
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static final class CsvRowWriter implements RowWriter {
+
+		private final Writer writer;
+
+		CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			writer.write(String.join(",", columns));
+			writer.write('\n');
+		}
+
+		@Override
+		public void write(Object[] values) throws IOException {
+			for (int i = 0; i < values.length; i++) {
+				Object value = values[i];
+				writer.write((i > 0 ? "," : "") + (value == null ? "" : "\"" + value.toString().replace("\"", "\"\"") + "\""));
+			}
+			writer.write('\n');
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.flush();
+		}
+	}
+}
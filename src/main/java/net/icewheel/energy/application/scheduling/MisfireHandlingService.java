@@ -19,18 +19,51 @@
 
 package net.icewheel.energy.application.scheduling;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.cronutils.model.time.ExecutionTime;
+import com.cronutils.parser.CronParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.application.scheduling.PowerwallScheduleExecutor.DueEvent;
+import net.icewheel.energy.config.StartupReconciliationConfig;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.domain.energy.model.ScheduleLastFired;
+import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
+import net.icewheel.energy.infrastructure.scheduling.SchedulerLanesConfig;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
  * This service ensures that the Powerwall's state is correct when the application starts up.
- * Instead of trying to replay individual missed schedules (which can be complex and error-prone),
- * it triggers a full state reconciliation. This approach is more robust and acts as a self-healing
- * mechanism to correct any state drift that may have occurred during application downtime.
- * It leverages the same logic used for periodic state checks, unifying the application's
- * self-healing strategy.
+ * Using the last-fired ledger ({@link ScheduleLastFired}), it works out exactly which schedule events were due
+ * while the application was down, in each schedule's own time zone, and replays only those, oldest first.
+ * Events older than the configured grace window are considered stale and left to the periodic reconciliation.
+ * A full state reconciliation of every user follows when an enabled schedule older than the grace window has no
+ * ledger entry yet, as after the upgrade that introduced the ledger, since its missed events cannot be worked out.
+ * It can also be enabled for every start with {@code app.startup-reconciliation.full-reconciliation}.
+ * <p>
+ * The same grace window bounds the retries of commands the executor deferred while running, because no Tesla
+ * call capacity became available in time.
+ * </p>
+ * <p>
+ * The work runs in the background once the application is ready, so HTTP is served immediately;
+ * readiness is held back by the {@code startupReconciliation} health indicator until it finishes.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -38,15 +71,168 @@ import org.springframework.stereotype.Service;
 public class MisfireHandlingService {
 
 	private final PowerwallStateReconciler stateReconciler;
+	private final PowerwallScheduleExecutor scheduleExecutor;
+	private final PowerwallScheduleRepository scheduleRepository;
+	private final ScheduleLastFiredRepository lastFiredRepository;
+	private final CronParser cronParser;
+	private final Clock clock;
+	private final StartupReconciliationConfig startupConfig;
+	private final StartupReconciliationProgress startupProgress;
+
+	/**
+	 * Starts the misfire handling on a background virtual thread once the application context is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void startBackgroundReconciliation() {
+		if (!startupConfig.isEnabled()) {
+			log.info("Startup misfire handling is disabled.");
+			startupProgress.skip();
+			return;
+		}
+		Thread.ofVirtual().name("startup-reconciliation").start(this::handleMisfiredSchedules);
+	}
 
 	/**
 	 * This method is the main entry point for handling potential misfires on application startup.
-	 * It delegates directly to the PowerwallStateReconciler to ensure the state of all Powerwalls
-	 * matches their active schedules.
+	 * It replays the missed events and, if configured, follows up with a full state reconciliation.
 	 */
 	public void handleMisfiredSchedules() {
-		log.info("Handling potential misfires by running a full state reconciliation...");
-		stateReconciler.reconcileOnStartup();
-		log.info("State reconciliation on startup complete.");
+		log.info("Handling potential misfires by replaying missed schedule events...");
+		try {
+			CatchUpResult result = catchUpMissedEvents();
+			log.info("Misfire catch-up complete. Replayed {} missed events.", result.replayed());
+			if (startupConfig.isFullReconciliation()) {
+				stateReconciler.reconcileOnStartup();
+			}
+			else if (result.untrackedSchedules() > 0) {
+				log.info("{} enabled schedule(s) have no last-fired entry; reconciling every user instead.",
+						result.untrackedSchedules());
+				stateReconciler.reconcileOnStartup();
+			}
+			startupProgress.complete();
+		}
+		catch (RuntimeException e) {
+			log.error("Misfire handling on startup failed: {}", e.getMessage(), e);
+			startupProgress.fail(e);
+		}
+	}
+
+	/**
+	 * Retries the events whose command the executor deferred, as long as they are still inside the grace window,
+	 * their schedule is still enabled and no later event of that schedule has fired since.
+	 * <p>
+	 * Why: No scheduler lock is taken, since deferred events are held by the node that deferred them; the
+	 * execution claims still keep an event from being dispatched twice.
+	 * </p>
+	 */
+	@Scheduled(cron = "30 * * * * *", scheduler = SchedulerLanesConfig.EXECUTION_LANE)
+	public void retryDeferredEvents() {
+		List<DueEvent> deferredEvents = scheduleExecutor.takeDeferredEvents();
+		if (deferredEvents.isEmpty()) {
+			return;
+		}
+		Instant graceStart = clock.instant().minus(startupConfig.getGraceWindow());
+		List<UUID> scheduleIds = deferredEvents.stream().map(event -> event.schedule().getId()).distinct().toList();
+		Set<UUID> enabledIds = scheduleRepository.findAllById(scheduleIds).stream()
+				.filter(PowerwallSchedule::isEnabled)
+				.map(PowerwallSchedule::getId)
+				.collect(Collectors.toSet());
+		Map<UUID, Instant> lastFired = lastFiredRepository.findAllById(scheduleIds).stream()
+				.collect(Collectors.toMap(ScheduleLastFired::getScheduleId, ScheduleLastFired::getLastFiredAt));
+
+		List<DueEvent> retries = new ArrayList<>();
+		for (DueEvent event : deferredEvents) {
+			UUID scheduleId = event.schedule().getId();
+			Instant lastFiredAt = lastFired.get(scheduleId);
+			if (event.fireTime().isBefore(graceStart)) {
+				log.warn("Dropping the deferred event of schedule {} due at {}: it is older than the grace window.",
+						scheduleId, event.fireTime());
+			}
+			else if (!enabledIds.contains(scheduleId) || (lastFiredAt != null && lastFiredAt.isAfter(event.fireTime()))) {
+				log.info("Dropping the deferred event of schedule {} due at {}: the schedule was disabled or has fired since.",
+						scheduleId, event.fireTime());
+			}
+			else {
+				retries.add(event);
+			}
+		}
+		if (!retries.isEmpty()) {
+			scheduleExecutor.retryDeferredEvents(retries);
+		}
+	}
+
+	/**
+	 * Replays, in fire-time order, every enabled schedule event that was due after the schedule last fired
+	 * (bounded by the grace window) and up to now.
+	 *
+	 * @return The number of missed events found, and of schedules whose missed events are unknown.
+	 */
+	CatchUpResult catchUpMissedEvents() {
+		Instant now = clock.instant();
+		Instant graceStart = now.minus(startupConfig.getGraceWindow());
+		List<PowerwallSchedule> schedules = scheduleRepository.findAllEnabledWithUser();
+		Map<UUID, Instant> lastFired = lastFiredRepository.findAllById(schedules.stream().map(PowerwallSchedule::getId).toList())
+				.stream()
+				.collect(Collectors.toMap(ScheduleLastFired::getScheduleId, ScheduleLastFired::getLastFiredAt));
+
+		List<MissedEvent> missedEvents = new ArrayList<>();
+		int untrackedSchedules = 0;
+		for (PowerwallSchedule schedule : schedules) {
+			if (!lastFired.containsKey(schedule.getId())
+					&& (schedule.getCreatedAt() == null || schedule.getCreatedAt().isBefore(graceStart))) {
+				untrackedSchedules++;
+			}
+			try {
+				findMissedFireTimes(schedule, lastFired.get(schedule.getId()), graceStart, now)
+						.forEach(fireTime -> missedEvents.add(new MissedEvent(schedule, fireTime)));
+			}
+			catch (Exception e) {
+				log.warn("Could not compute missed events for schedule '{}' (ID: {}): {}",
+						schedule.getName(), schedule.getId(), e.getMessage());
+			}
+		}
+		missedEvents.sort(Comparator.comparing(MissedEvent::fireTime));
+
+		startupProgress.start("misfire catch-up", missedEvents.size());
+		for (MissedEvent event : missedEvents) {
+			boolean succeeded = true;
+			try {
+				scheduleExecutor.replayMissedEvent(event.schedule(), event.fireTime());
+			}
+			catch (Exception e) {
+				succeeded = false;
+				log.error("Failed to replay missed event of schedule {} due at {}: {}",
+						event.schedule().getId(), event.fireTime(), e.getMessage(), e);
+			}
+			startupProgress.itemProcessed(succeeded);
+		}
+		return new CatchUpResult(missedEvents.size(), untrackedSchedules);
+	}
+
+	/**
+	 * Enumerates the schedule's fire times in {@code (from, now]}, evaluated in the schedule's time zone, where
+	 * {@code from} is the latest of the last fired time, the start of the grace window and the schedule's creation.
+	 */
+	private List<Instant> findMissedFireTimes(PowerwallSchedule schedule, Instant lastFiredAt, Instant graceStart, Instant now) {
+		Instant from = lastFiredAt != null && lastFiredAt.isAfter(graceStart) ? lastFiredAt : graceStart;
+		if (schedule.getCreatedAt() != null && schedule.getCreatedAt().isAfter(from)) {
+			from = schedule.getCreatedAt();
+		}
+		ExecutionTime executionTime = ExecutionTime.forCron(cronParser.parse(schedule.getCronExpression()));
+
+		List<Instant> fireTimes = new ArrayList<>();
+		ZonedDateTime cursor = from.atZone(schedule.getTimeZone());
+		Optional<ZonedDateTime> next = executionTime.nextExecution(cursor);
+		while (next.isPresent() && !next.get().toInstant().isAfter(now)) {
+			fireTimes.add(next.get().toInstant());
+			next = executionTime.nextExecution(next.get());
+		}
+		return fireTimes;
+	}
+
+	private record MissedEvent(PowerwallSchedule schedule, Instant fireTime) {
+	}
+
+	record CatchUpResult(int replayed, int untrackedSchedules) {
 	}
-}
\ No newline at end of file
+}
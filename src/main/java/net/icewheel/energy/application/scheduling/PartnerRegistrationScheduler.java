@@ -19,6 +19,7 @@
 
 package net.icewheel.energy.application.scheduling;
 
+import net.icewheel.energy.infrastructure.scheduling.SchedulerLanesConfig;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.TeslaAuthService;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
@@ -57,7 +58,7 @@ public class PartnerRegistrationScheduler {
 	 * preventing conflicts or unnecessary repeated calls.
 	 * </p>
 	 */
-    @Scheduled(cron = "0 0 0 * * ?") // Run once a day
+    @Scheduled(cron = "0 0 0 * * ?", scheduler = SchedulerLanesConfig.PARTNER_REGISTRATION_LANE) // Run once a day
     // Why: Prevent duplicate partner registrations across instances; ShedLock ensures single execution.
     @SchedulerLock(name = "registerPartner", lockAtMostFor = "PT5M", lockAtLeastFor = "PT1M")
     public void schedulePartnerRegistration() {
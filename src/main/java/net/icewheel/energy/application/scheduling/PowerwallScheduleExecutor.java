@@ -20,21 +20,42 @@
 package net.icewheel.energy.application.scheduling;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import com.cronutils.descriptor.CronDescriptor;
-import com.cronutils.model.Cron;
 import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.application.scheduling.annotation.WithTeslaApiRetries;
+import net.icewheel.energy.config.ScheduleExecutionConfig;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.domain.energy.model.ScheduleEventType;
 import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionClaimRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
+import net.icewheel.energy.infrastructure.scheduling.SchedulerLanesConfig;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudgetExceededException;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallPriority;
+import net.icewheel.energy.infrastructure.vendors.tesla.services.LastKnownSiteStateStore;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
@@ -48,16 +69,69 @@ import org.springframework.stereotype.Component;
  * (like setting the backup reserve percentage) and records whether the action was successful or not.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PowerwallScheduleExecutor {
 
     private final PowerwallScheduleRepository scheduleRepository;
     private final ScheduleExecutionHistoryRepository historyRepository;
+	private final ScheduleLastFiredRepository lastFiredRepository;
+	private final ScheduleExecutionClaimRepository claimRepository;
     private final TeslaEnergyService teslaEnergyService;
+	private final LastKnownSiteStateStore siteStateStore;
+	private final ScheduleExecutionConfig executionConfig;
 	private final CronParser cronParser;
 	private final Clock clock;
-    private final CronDescriptor descriptor = CronDescriptor.instance(Locale.US); // For English descriptions
+	/**
+	 * Parsed cron expressions. Why: Generated expressions repeat across schedules and never change for a given string,
+	 * so each one is parsed once instead of on every tick.
+	 */
+	private final Map<String, ExecutionTime> executionTimes = new ConcurrentHashMap<>();
+	/**
+	 * Events whose command was never sent because no Tesla call capacity became available in time.
+	 * They are retried by {@link MisfireHandlingService#retryDeferredEvents()}.
+	 */
+	private final Queue<DueEvent> deferredEvents = new ConcurrentLinkedQueue<>();
+	// Why: Claims only need to outlive the lock lease and the startup grace window; a week leaves ample margin.
+	private static final Duration CLAIM_RETENTION = Duration.ofDays(7);
+	/**
+	 * Commands closest to their deadline go first. Among commands with the same deadline, those that start an
+	 * on-peak period lead because a late discharge costs the user peak-rate energy.
+	 */
+	private static final Comparator<SiteCommand> EARLIEST_DEADLINE_FIRST = Comparator.comparing(SiteCommand::deadline)
+			.thenComparing(SiteCommand::onPeak, Comparator.reverseOrder());
+	private final Timer tickLagTimer;
+	private final Timer dispatchOffsetTimer;
+
+	public PowerwallScheduleExecutor(PowerwallScheduleRepository scheduleRepository,
+			ScheduleExecutionHistoryRepository historyRepository,
+			ScheduleLastFiredRepository lastFiredRepository,
+			ScheduleExecutionClaimRepository claimRepository,
+			TeslaEnergyService teslaEnergyService,
+			LastKnownSiteStateStore siteStateStore,
+			ScheduleExecutionConfig executionConfig,
+			CronParser cronParser,
+			Clock clock,
+			MeterRegistry meterRegistry) {
+		this.scheduleRepository = scheduleRepository;
+		this.historyRepository = historyRepository;
+		this.lastFiredRepository = lastFiredRepository;
+		this.claimRepository = claimRepository;
+		this.teslaEnergyService = teslaEnergyService;
+		this.siteStateStore = siteStateStore;
+		this.executionConfig = executionConfig;
+		this.cronParser = cronParser;
+		this.clock = clock;
+		// Why: Lag is measured against the nominal minute boundary, so a late trigger, lock wait or busy lane shows up here.
+		this.tickLagTimer = Timer.builder("icewheel.scheduler.tick.lag")
+				.description("Delay between the nominal minute boundary and the start of the schedule check")
+				.tag("lane", SchedulerLanesConfig.EXECUTION_LANE)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+		this.dispatchOffsetTimer = Timer.builder("icewheel.scheduler.dispatch.offset")
+				.description("Delay between an event's nominal fire time and the moment its site command was dispatched")
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
 
 	/**
 	 * This method runs automatically, typically once every minute, to check for and execute
@@ -69,91 +143,355 @@ public class PowerwallScheduleExecutor {
 	 * don't immediately cause a schedule to fail.
 	 * </p>
 	 */
-    @Scheduled(cron = "0 * * * * *") // Run every minute on the minute
+    @Scheduled(cron = "0 * * * * *", scheduler = SchedulerLanesConfig.EXECUTION_LANE) // Run every minute on the minute
     // Why: Use ShedLock so only one instance executes schedules in clustered deployments, avoiding duplicate actions.
     @SchedulerLock(name = "executePowerwallSchedules", lockAtMostFor = "PT2M", lockAtLeastFor = "PT20S")
 	@WithTeslaApiRetries
     public void executeSchedules() {
+		ZonedDateTime now = ZonedDateTime.now(clock);
+		ZonedDateTime fireTime = now.truncatedTo(ChronoUnit.MINUTES);
+		tickLagTimer.record(Duration.between(fireTime, now));
 		log.info("Running Powerwall schedule check...");
         List<PowerwallSchedule> enabledSchedules = scheduleRepository.findAllEnabledWithUser();
-		ZonedDateTime now = ZonedDateTime.now(clock);
 
+		List<DueEvent> dueEvents = new ArrayList<>();
         for (PowerwallSchedule schedule : enabledSchedules) {
             try {
-                Cron cron = cronParser.parse(schedule.getCronExpression());
-                ExecutionTime executionTime = ExecutionTime.forCron(cron);
+                ExecutionTime executionTime = executionTimes.computeIfAbsent(schedule.getCronExpression(),
+                        expression -> ExecutionTime.forCron(cronParser.parse(expression)));
 
                 // Check if the schedule should run at this moment in its specified timezone
                 if (executionTime.isMatch(now.withZoneSameInstant(schedule.getTimeZone()))) {
-                    String eventDescription = switch (schedule.getEventType()) {
-                        case START_CHARGE -> "start charging (off-peak)";
-                        case START_DISCHARGE -> "start discharging (on-peak)";
-                    };
-
-                    log.info("Executing schedule '{}' (ID: {}): Triggering {} for user '{}'. Setting backup to {}%.",
-                            schedule.getName(), schedule.getId(), eventDescription, schedule.getUser().getId(), schedule.getBackupPercent());
-
-                    executeAndRecordHistory(schedule, eventDescription, cron);
+                    dueEvents.add(new DueEvent(schedule, fireTime.toInstant()));
                 }
             } catch (Exception e) {
                 log.error("Failed to process schedule '{}' (ID: {}). Error: {}",
                         schedule.getName(), schedule.getId(), e.getMessage(), e);
             }
         }
+		dispatch(dueEvents, fireTime.toInstant(), ScheduleExecutionHistory.ExecutionType.REGULAR);
         log.debug("Powerwall schedule check finished.");
     }
 
+	/**
+	 * Deletes execution claims that are too old to guard against a duplicate dispatch any more.
+	 */
+	@Scheduled(cron = "0 30 3 * * *")
+	@SchedulerLock(name = "purgeScheduleExecutionClaims", lockAtMostFor = "PT10M", lockAtLeastFor = "PT1M")
+	public void purgeExpiredClaims() {
+		int deleted = claimRepository.deleteByFireTimeBefore(clock.instant().minus(CLAIM_RETENTION));
+		log.info("Purged {} expired schedule execution claims.", deleted);
+	}
+
+	/**
+	 * Replays a single event that was due while the application was down.
+	 * Used by {@link MisfireHandlingService}, which computes the missed fire times from the last-fired ledger.
+	 *
+	 * @param schedule The schedule whose event was missed.
+	 * @param fireTime The nominal instant the event should have fired at.
+	 */
+	public void replayMissedEvent(PowerwallSchedule schedule, Instant fireTime) {
+		log.info("Replaying missed event of schedule '{}' (ID: {}) that was due at {}.", schedule.getName(), schedule.getId(), fireTime);
+		dispatch(List.of(new DueEvent(schedule, fireTime)), fireTime, ScheduleExecutionHistory.ExecutionType.MISFIRE_CATCH_UP);
+	}
+
+	/**
+	 * Takes the events deferred since the last call, see {@link #deferredEvents}.
+	 *
+	 * @return The deferred events, oldest first.
+	 */
+	public List<DueEvent> takeDeferredEvents() {
+		List<DueEvent> events = new ArrayList<>();
+		for (DueEvent event = deferredEvents.poll(); event != null; event = deferredEvents.poll()) {
+			events.add(event);
+		}
+		return events;
+	}
+
+	/**
+	 * Sends the commands of previously deferred events again, in a single dispatch so that they are ordered by
+	 * their deadlines like the commands of a regular tick.
+	 *
+	 * @param events The deferred events that are still worth sending.
+	 */
+	public void retryDeferredEvents(List<DueEvent> events) {
+		log.info("Retrying {} deferred schedule event(s).", events.size());
+		dispatch(events, clock.instant(), ScheduleExecutionHistory.ExecutionType.MISFIRE_CATCH_UP);
+	}
+
+	/**
+	 * Claims the due events and sends one command per energy site.
+	 * <p>
+	 * Why: Several schedules on the same site (e.g. overlapping schedule groups) can be due in the same minute.
+	 * Only the last write would stick anyway, so they are coalesced into a single command whose target follows
+	 * the reconciler's rule, and each contributing schedule still gets its own history row. Events of different
+	 * fire times are never coalesced, since each one must reach the site in its own order.
+	 * </p>
+	 *
+	 * @param dueEvents The events to dispatch.
+	 * @param windowStart The instant the dispatch window opens at; the commands are spread from here.
+	 * @param executionType Whether this is a regular tick or a replay of missed events.
+	 */
+	private void dispatch(List<DueEvent> dueEvents, Instant windowStart, ScheduleExecutionHistory.ExecutionType executionType) {
+		Map<String, List<DueEvent>> eventsBySite = new LinkedHashMap<>();
+		for (DueEvent event : dueEvents) {
+			PowerwallSchedule schedule = event.schedule();
+			if (claim(schedule, event.fireTime())) {
+				eventsBySite.computeIfAbsent(schedule.getUser().getId() + "/" + schedule.getEnergySiteId() + "/" + event.fireTime(),
+						key -> new ArrayList<>()).add(event);
+			}
+		}
+
+		List<SiteCommand> commands = inDispatchOrder(eventsBySite.values(), executionConfig.getDispatchWindow());
+
+		// Why: Commands run on virtual threads so a slow Tesla call does not push back the slots of the
+		// commands behind it; closing the executor waits until every command has been dispatched.
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < commands.size(); i++) {
+				SiteCommand command = commands.get(i);
+				Instant slot = windowStart.plus(plannedOffset(i, commands.size()));
+				workers.execute(() -> dispatchAt(command, slot, executionType));
+			}
+		}
+	}
+
+	/**
+	 * Builds one command per site and fire time and orders them earliest deadline first, then on-peak first;
+	 * otherwise the claim order is kept. A command's deadline is its fire time plus the dispatch window, the
+	 * latest instant the spreading may send it at.
+	 *
+	 * @param eventsBySite The claimed events, grouped by site and fire time.
+	 * @param dispatchWindow The configured {@code dispatch-window}.
+	 */
+	static List<SiteCommand> inDispatchOrder(Collection<List<DueEvent>> eventsBySite, Duration dispatchWindow) {
+		return eventsBySite.stream()
+				.map(siteEvents -> {
+					List<PowerwallSchedule> siteSchedules = siteEvents.stream().map(DueEvent::schedule).toList();
+					Instant fireTime = siteEvents.getFirst().fireTime();
+					return new SiteCommand(siteSchedules, fireTime, fireTime.plus(dispatchWindow), isOnPeak(siteSchedules));
+				})
+				.sorted(EARLIEST_DEADLINE_FIRST)
+				.toList();
+	}
+
+	/**
+	 * Plans when the {@code index}-th command (in dispatch order) of a tick is sent, relative to the fire time.
+	 * <p>
+	 * Why: Most users pick round times, so thousands of commands can be due at second 0 of the same minute.
+	 * The first {@code immediate-dispatch-limit} commands go out at once, so small ticks are never delayed; the
+	 * rest are spread evenly across {@code dispatch-window}, flattening the burst Tesla sees while bounding every
+	 * command's lateness by the window.
+	 * </p>
+	 */
+	Duration plannedOffset(int index, int commandCount) {
+		int immediate = executionConfig.getImmediateDispatchLimit();
+		Duration window = executionConfig.getDispatchWindow();
+		if (index < immediate || !window.isPositive()) {
+			return Duration.ZERO;
+		}
+		return window.multipliedBy(index - immediate + 1L).dividedBy(commandCount - immediate);
+	}
+
+	private void dispatchAt(SiteCommand command, Instant slot, ScheduleExecutionHistory.ExecutionType executionType) {
+		Duration wait = Duration.between(clock.instant(), slot);
+		if (wait.isPositive()) {
+			try {
+				Thread.sleep(wait);
+			}
+			catch (InterruptedException e) {
+				// Shutting down: dispatch right away rather than dropping the command.
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (executionType == ScheduleExecutionHistory.ExecutionType.REGULAR) {
+			dispatchOffsetTimer.record(Duration.between(command.fireTime(), clock.instant()));
+		}
+
+		List<PowerwallSchedule> siteSchedules = command.siteSchedules();
+		boolean deferred = false;
+		try {
+			// Why: Backup reserve changes are time-critical and must never queue behind a reconciliation sweep.
+			deferred = TeslaCallPriority.COMMAND.call(() -> executeAndRecordHistory(siteSchedules, executionType));
+		}
+		catch (Exception e) {
+			log.error("Failed to execute schedules for site {}. Error: {}", siteSchedules.getFirst().getEnergySiteId(), e.getMessage(), e);
+		}
+		finally {
+			if (deferred) {
+				siteSchedules.forEach(schedule -> defer(schedule, command.fireTime()));
+			}
+			else {
+				siteSchedules.forEach(schedule -> recordLastFired(schedule.getId(), command.fireTime()));
+			}
+		}
+	}
+
+	/**
+	 * Queues an event whose command was never sent for a retry.
+	 * Why: The claim is released so the retry can claim the event again, and the last-fired entry is left alone
+	 * so a restart before the retry still finds the event in the startup catch-up.
+	 */
+	private void defer(PowerwallSchedule schedule, Instant fireTime) {
+		try {
+			claimRepository.release(schedule.getId(), fireTime);
+			deferredEvents.add(new DueEvent(schedule, fireTime));
+		}
+		catch (Exception e) {
+			log.error("Could not defer schedule '{}' (ID: {}) for {}; it will not be retried. Error: {}",
+					schedule.getName(), schedule.getId(), fireTime, e.getMessage(), e);
+		}
+	}
+
+	private static boolean isOnPeak(List<PowerwallSchedule> siteSchedules) {
+		return siteSchedules.stream().anyMatch(s -> s.getEventType() == ScheduleEventType.START_DISCHARGE);
+	}
+
+	/**
+	 * Claims a single event in the execution ledger.
+	 *
+	 * @return true if this node may dispatch the event; false if it was already dispatched or the claim failed.
+	 */
+	private boolean claim(PowerwallSchedule schedule, Instant fireTime) {
+		try {
+			if (claimRepository.claim(schedule.getId(), fireTime, clock.instant()) == 1) {
+				return true;
+			}
+			log.info("Skipping schedule '{}' (ID: {}) for {}: this event was already dispatched.",
+					schedule.getName(), schedule.getId(), fireTime);
+		}
+		catch (Exception e) {
+			log.error("Could not claim schedule '{}' (ID: {}) for {}. Error: {}",
+					schedule.getName(), schedule.getId(), fireTime, e.getMessage(), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Advances the schedule's entry in the last-fired ledger. Failures are logged only; a stale entry merely
+	 * widens the window the next startup catch-up looks at.
+	 */
+	private void recordLastFired(UUID scheduleId, Instant fireTime) {
+		try {
+			lastFiredRepository.advance(scheduleId, fireTime);
+		}
+		catch (Exception e) {
+			log.warn("Could not record last fired time {} for schedule {}: {}", fireTime, scheduleId, e.getMessage());
+		}
+	}
+
 	/**
 	 * This private method is responsible for actually sending the command to the Tesla Powerwall
 	 * and then recording the outcome (success or failure) in the schedule execution history.
-	 * It captures details like the schedule's name, the action performed, and any errors that occurred.
+	 * All schedules passed in belong to the same energy site; if any of them starts an on-peak period the
+	 * lowest on-peak reserve is applied, otherwise the highest off-peak reserve. If the site is already known
+	 * (within {@code app.schedule-execution.site-state-max-age}) to be at that reserve, no command is sent and
+	 * the run is recorded as SKIPPED. If no Tesla call capacity became available in time, the command was never
+	 * sent and the run is recorded as deferred.
 	 *
-	 * @param schedule The PowerwallSchedule that is being executed.
-	 * @param eventDescription A human-readable description of the event (e.g., "start charging").
-	 * @param cron The cron expression associated with the schedule, used for history logging.
+	 * @param siteSchedules The due schedules of a single energy site.
+	 * @param executionType Whether this is a regular tick or a replay of a missed event.
+	 * @return true if the command was deferred and should be retried.
 	 */
-    private void executeAndRecordHistory(PowerwallSchedule schedule, String eventDescription, Cron cron) {
+    private boolean executeAndRecordHistory(List<PowerwallSchedule> siteSchedules, ScheduleExecutionHistory.ExecutionType executionType) {
+		PowerwallSchedule first = siteSchedules.getFirst();
+		String userId = first.getUser().getId();
+		String energySiteId = first.getEnergySiteId();
+		boolean onPeak = isOnPeak(siteSchedules);
+		int targetPercent = BackupReserveTargets.resolve(onPeak, siteSchedules.stream()
+				.filter(s -> (s.getEventType() == ScheduleEventType.START_DISCHARGE) == onPeak)
+				.map(PowerwallSchedule::getBackupPercent)
+				.toList());
+
+		siteSchedules.forEach(schedule -> log.info("Executing schedule '{}' (ID: {}): Triggering {} for user '{}'. Setting backup to {}%.",
+				schedule.getName(), schedule.getId(), describeEvent(schedule), userId, targetPercent));
+
+		OptionalInt knownPercent = siteStateStore.findBackupReserve(energySiteId, executionConfig.getSiteStateMaxAge());
+		boolean alreadySet = knownPercent.isPresent() && knownPercent.getAsInt() == targetPercent;
+		boolean accepted = false;
+		boolean deferred = false;
+		Exception error = null;
+		if (alreadySet) {
+			log.info("Site {} (user {}) is already at {}% backup reserve. Skipping the command.", energySiteId, userId, targetPercent);
+		}
+		else {
+			try {
+				accepted = teslaEnergyService.setBackupReserve(userId, energySiteId, targetPercent);
+			} catch (TeslaCallBudgetExceededException e) {
+				deferred = true;
+				log.warn("Deferring the command for site {} (user {}): {}", energySiteId, userId, e.getMessage());
+			} catch (Exception e) {
+				error = e;
+				log.error("Failed to set backup reserve for site {} (user {}). Error: {}", energySiteId, userId, e.getMessage(), e);
+			}
+		}
+
+		for (PowerwallSchedule schedule : siteSchedules) {
+			ScheduleExecutionHistory history = newHistory(schedule, executionType);
+			history.setTargetPercent((short) targetPercent);
+			history.setCombinedCount((short) (siteSchedules.size() - 1));
+			if (alreadySet) {
+				history.setStatus(ScheduleExecutionHistory.ExecutionStatus.SKIPPED);
+				history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_ALREADY_SET);
+			}
+			else if (deferred) {
+				history.setStatus(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
+				history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_DEFERRED);
+			}
+			else if (error != null) {
+				history.setStatus(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
+				history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_ERROR);
+				String errorMessage = error.getMessage() != null ? error.getMessage() : "An unknown error occurred.";
+				history.setErrorMessage(String.format("%s (%s)", errorMessage, error.getClass().getSimpleName()));
+			}
+			else if (accepted) {
+				history.setStatus(ScheduleExecutionHistory.ExecutionStatus.SUCCESS);
+				history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED);
+				log.info("Successfully executed schedule '{}' (ID: {}).", schedule.getName(), schedule.getId());
+			}
+			else {
+				history.setStatus(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
+				history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_REJECTED);
+				log.error("API call failed during execution of schedule '{}' (ID: {}).",
+						schedule.getName(), schedule.getId());
+			}
+			try {
+				historyRepository.save(history);
+			}
+			catch (Exception e) {
+				log.error("Failed to save execution history for schedule '{}' (ID: {}). Error: {}",
+						schedule.getName(), schedule.getId(), e.getMessage(), e);
+			}
+		}
+		return deferred;
+    }
+
+	private ScheduleExecutionHistory newHistory(PowerwallSchedule schedule, ScheduleExecutionHistory.ExecutionType executionType) {
         ScheduleExecutionHistory history = new ScheduleExecutionHistory();
-		history.setExecutionType(ScheduleExecutionHistory.ExecutionType.REGULAR);
+		history.setExecutionType(executionType);
 		history.setUserId(schedule.getUser().getId());
         history.setScheduleId(schedule.getId());
         history.setScheduleGroupId(schedule.getScheduleGroupId());
         history.setScheduleName(schedule.getName());
-        history.setCronExpression(schedule.getCronExpression());
-        try {
-            // Generate a human-readable description of the cron expression
-            history.setCronDescription(descriptor.describe(cron));
-        } catch (Exception e) {
-            log.warn("Could not generate cron description for expression '{}'", schedule.getCronExpression(), e);
-            history.setCronDescription("N/A");
-        }
-        try {
-            boolean success = teslaEnergyService.setBackupReserve(
-                    schedule.getUser().getId(),
-                    String.valueOf(schedule.getEnergySiteId()),
-                    schedule.getBackupPercent()
-            );
-            if (success) {
-                history.setStatus(ScheduleExecutionHistory.ExecutionStatus.SUCCESS);
-                history.setDetails(String.format("Successfully triggered '%s' action. Set backup reserve to %d%%.",
-                        eventDescription, schedule.getBackupPercent()));
-                log.info("Successfully executed schedule '{}' (ID: {}).", schedule.getName(), schedule.getId());
-            } else {
-                history.setStatus(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
-                history.setDetails(String.format("API call failed for '%s' action. The command was not accepted by the Tesla API.",
-                        eventDescription));
-                log.error("API call failed during execution of schedule '{}' (ID: {}).",
-                        schedule.getName(), schedule.getId());
-            }
-        } catch (Exception e) {
-            history.setStatus(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
-            String errorMessage = e.getMessage() != null ? e.getMessage() : "An unknown error occurred.";
-			history.setDetails(String.format("Execution failed for '%s'. Error: %s (%s)",
-                    eventDescription, errorMessage, e.getClass().getSimpleName()));
-			log.error("Failed to execute schedule '{}' (ID: {}). Error: {}",
-                    schedule.getName(), schedule.getId(), e.getMessage(), e);
-        } finally {
-            historyRepository.save(history);
-        }
-    }
-}
\ No newline at end of file
+		history.setOnPeak(schedule.getEventType() == ScheduleEventType.START_DISCHARGE);
+		return history;
+	}
+
+	/**
+	 * A schedule event due at the given nominal fire time.
+	 */
+	public record DueEvent(PowerwallSchedule schedule, Instant fireTime) {
+	}
+
+	/**
+	 * A single backup reserve command for one energy site, covering all of that site's schedules due at one fire time.
+	 */
+	record SiteCommand(List<PowerwallSchedule> siteSchedules, Instant fireTime, Instant deadline, boolean onPeak) {
+	}
+
+	private static String describeEvent(PowerwallSchedule schedule) {
+		return switch (schedule.getEventType()) {
+			case START_CHARGE -> "start charging (off-peak)";
+			case START_DISCHARGE -> "start discharging (on-peak)";
+		};
+	}
+}
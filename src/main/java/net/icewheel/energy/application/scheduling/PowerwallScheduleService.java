@@ -22,14 +22,13 @@ package net.icewheel.energy.application.scheduling;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
-import net.icewheel.energy.api.rest.dto.ScheduleHistoryResponse;
+import net.icewheel.energy.api.rest.dto.ScheduleHistorySliceResponse;
 import net.icewheel.energy.api.rest.dto.ScheduleRequest;
 import net.icewheel.energy.api.rest.dto.ScheduleResponse;
 import net.icewheel.energy.domain.auth.model.User;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 /**
  * This interface acts as a blueprint for any service that manages Tesla Powerwall schedules.
@@ -86,22 +85,26 @@ public interface PowerwallScheduleService {
     void deleteSchedulePeriod(UUID scheduleGroupId, User user);
 
 	/**
-	 * Retrieves a history of all changes (creations, updates, deletions) made to schedules by a user.
+	 * Retrieves a history of all changes (creations, updates, deletions) made to schedules by a user, newest first.
 	 *
 	 * @param user The user whose schedule change history is to be retrieved.
-	 * @param pageable Pagination information.
-	 * @return A paginated list of schedule history response objects.
+	 * @param cursor The cursor returned with the previous page, or null for the newest entries.
+	 * @param size The maximum number of entries to return.
+	 * @param includeCount Whether to include an approximate total count.
+	 * @return One page of schedule history response objects and the cursor of the next page.
 	 */
-	Page<ScheduleHistoryResponse> getScheduleHistory(User user, Pageable pageable);
+	ScheduleHistorySliceResponse getScheduleHistory(User user, String cursor, int size, boolean includeCount);
 
 	/**
-	 * Retrieves a history of when schedules were actually executed or skipped by the system.
+	 * Retrieves a history of when schedules were actually executed or skipped by the system, newest first.
 	 *
 	 * @param user The user whose schedule execution history is to be retrieved.
-	 * @param pageable Pagination information.
-	 * @return A paginated list of schedule history response objects detailing executions.
+	 * @param cursor The cursor returned with the previous page, or null for the newest entries.
+	 * @param size The maximum number of entries to return.
+	 * @param includeCount Whether to include an approximate total count.
+	 * @return One page of schedule history response objects detailing executions and the cursor of the next page.
 	 */
-	Page<ScheduleHistoryResponse> getScheduleExecutionHistory(User user, Pageable pageable);
+	ScheduleHistorySliceResponse getScheduleExecutionHistory(User user, String cursor, int size, boolean includeCount);
 
 	/**
 	 * Enables or disables an energy schedule period. When disabled, the schedule will not run.
@@ -113,13 +116,13 @@ public interface PowerwallScheduleService {
     void updateScheduleEnabledStatus(UUID scheduleGroupId, boolean enabled, User user);
 
 	/**
-	 * Retrieves all of a user's schedules in a format suitable for exporting to a file (e.g., JSON).
-	 * This is useful for creating backups or migrating settings.
+	 * Passes each of a user's schedules, in a format suitable for exporting to a file (e.g., JSON), to the given
+	 * action as it is read, without collecting them first. This is useful for creating backups or migrating settings.
 	 *
 	 * @param user The user whose schedules are to be exported.
-	 * @return A list of schedule request objects ready for serialization.
+	 * @param action Receives each schedule, newest first.
 	 */
-	List<ScheduleRequest> getSchedulesForExport(User user);
+	void exportSchedules(User user, Consumer<ScheduleRequest> action);
 
 	/**
 	 * Imports a list of schedules from a deserialized file (e.g., JSON) and creates them for the user.
@@ -24,19 +24,22 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.api.rest.dto.ScheduleHistoryResponse;
+import net.icewheel.energy.api.rest.dto.ScheduleHistorySliceResponse;
 import net.icewheel.energy.api.rest.dto.ScheduleRequest;
 import net.icewheel.energy.api.rest.dto.ScheduleResponse;
 import net.icewheel.energy.domain.auth.model.User;
@@ -47,27 +50,40 @@ import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
 import net.icewheel.energy.domain.energy.model.ScheduleEventType;
 import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
+import net.icewheel.energy.infrastructure.cache.CacheInvalidationBus;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleAuditEventRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.Product;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
+import net.icewheel.energy.shared.id.UuidV7;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 
     private final PowerwallScheduleRepository scheduleRepository;
+	private final SchedulePeriodRepository periodRepository;
     private final ScheduleExecutionHistoryRepository historyRepository;
     private final ScheduleAuditEventRepository auditEventRepository;
 	private final Validator validator;
 	private final TeslaEnergyService teslaEnergyService;
+	private final TransactionOperations transactionOperations;
+	private final CacheInvalidationBus invalidationBus;
+	// Why: Counting is capped so the optional total stays cheap for users with years of history.
+	private static final int APPROXIMATE_COUNT_LIMIT = 1000;
 
 	private static final int MAX_SCHEDULES_PER_IMPORT = 100;
 
@@ -100,36 +116,32 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
         logAuditEvent(user, scheduleGroupId, request.getName(), ScheduleAuditEvent.AuditAction.UPDATED, auditDetails);
 
         // The changes will be saved automatically at the end of the transaction by JPA's dirty checking.
-        // We can return the response DTO mapped from the updated entities.
-        return mapGroupToResponse(schedules).orElseThrow();
+		// Why: The read model is refreshed in the same transaction, so listings never see a half-applied update.
+		SchedulePeriod period = periodRepository.findById(scheduleGroupId)
+				.orElseGet(() -> SchedulePeriod.of(startDischarge, startCharge));
+		period.apply(startDischarge, startCharge);
+		periodRepository.save(period);
+		publishScheduleChanges(schedules);
+        return mapPeriodToResponse(period);
     }
 
     @Override
     @Transactional(readOnly = true)
-	// Why: This method groups individual schedule events (start charge/discharge) into a single logical "Schedule Period"
-	// for the user. It ensures that the UI can present a coherent view of the on-peak/off-peak settings,
-	// even though they are stored as separate database entries.
+	// Why: Each "Schedule Period" is stored as two schedule events (start charge/discharge). The schedule_periods
+	// read model already holds the combined view, so listing (and every reconciliation run) is one indexed read
+	// instead of loading both events and regrouping them in memory.
     public List<ScheduleResponse> findSchedulesByUser(User user) {
-        // Group schedules by their group ID to treat each period as a single unit
-        List<PowerwallSchedule> schedules = scheduleRepository.findAllByUser(user);
-        Map<UUID, List<PowerwallSchedule>> groupedSchedules = schedules.stream()
-                .collect(Collectors.groupingBy(PowerwallSchedule::getScheduleGroupId));
-
-        // Map each group to a single period response DTO
-        return groupedSchedules.values().stream()
-                .flatMap(group -> mapGroupToResponse(group).stream())
-                .sorted(Comparator.comparing(ScheduleResponse::getCreatedAt).reversed())
+        return periodRepository.findAllByUserOrderByCreatedAtDesc(user).stream()
+                .map(this::mapPeriodToResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<ScheduleResponse> findScheduleByGroupId(UUID scheduleGroupId, User user) {
-        List<PowerwallSchedule> schedules = scheduleRepository.findAllByScheduleGroupId(scheduleGroupId);
-        if (schedules.isEmpty() || !schedules.get(0).getUser().getId().equals(user.getId())) {
-            return Optional.empty();
-        }
-        return mapGroupToResponse(schedules);
+        return periodRepository.findById(scheduleGroupId)
+                .filter(period -> period.getUser().getId().equals(user.getId()))
+                .map(this::mapPeriodToResponse);
     }
 
     @Override
@@ -143,7 +155,10 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 				"name", representative.getName()
 		);
 		logAuditEvent(user, scheduleGroupId, representative.getName(), ScheduleAuditEvent.AuditAction.DELETED, details);
-        scheduleRepository.deleteAll(schedules);
+		// Why: Set-based deletes skip loading and removing each entity; last-fired entries go by database cascade.
+		scheduleRepository.deleteAllByScheduleGroupId(scheduleGroupId);
+		periodRepository.deleteByScheduleGroupId(scheduleGroupId);
+		publishScheduleChanges(schedules);
     }
 
     @Override
@@ -151,6 +166,8 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
     public void updateScheduleEnabledStatus(UUID scheduleGroupId, boolean enabled, User user) {
         List<PowerwallSchedule> schedules = findAndValidateSchedulesByGroup(scheduleGroupId, user);
 		schedules.forEach(schedule -> schedule.setEnabled(enabled)); // The changes are saved automatically by JPA dirty checking.
+		periodRepository.findById(scheduleGroupId).ifPresent(period -> period.setEnabled(enabled));
+		publishScheduleChanges(schedules);
 
 		// Why: This ensures the audit log format for a status change is consistent with other updates.
 		// The UI expects a "changes" list, and this provides it, fixing a bug where it would display "Status changed to null".
@@ -166,37 +183,53 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 
     @Override
     @Transactional(readOnly = true)
-	public Page<ScheduleHistoryResponse> getScheduleHistory(User user, Pageable pageable) {
-		// Why: The repository method is updated to accept a Pageable object,
-		// allowing the database to handle pagination and sorting efficiently.
-		// The Page.map function is then used to convert the entity Page to a DTO Page.
-		return auditEventRepository.findByUser(user, pageable)
-                .map(event -> new ScheduleHistoryResponse(
+	public ScheduleHistorySliceResponse getScheduleHistory(User user, String cursor, int size, boolean includeCount) {
+		Pageable pageable = PageRequest.of(0, size);
+		Slice<ScheduleAuditEvent> events = HistoryCursor.decode(cursor)
+				.map(position -> auditEventRepository.findByUserBefore(user, position.timestamp(), position.id(), pageable))
+				.orElseGet(() -> auditEventRepository.findLatestByUser(user, pageable));
+		List<ScheduleHistoryResponse> items = events.map(event -> new ScheduleHistoryResponse(
                         event.getAction().name(),
                         event.getTimestamp(),
                         event.getScheduleName(),
                         event.getDetails(), // Pass the raw Map<String, Object> to the DTO
-                        null // Lifecycle events don't have a success/failure status
-				));
+                        null, // Lifecycle events don't have a success/failure status
+						event.getId()
+				)).getContent();
+		Long count = includeCount ? auditEventRepository.countByUserIdUpTo(user.getId(), APPROXIMATE_COUNT_LIMIT + 1) : null;
+		return toSliceResponse(items, events.hasNext(), count);
     }
 
     @Override
     @Transactional(readOnly = true)
-	public Page<ScheduleHistoryResponse> getScheduleExecutionHistory(User user, Pageable pageable) {
-		// Why: The previous implementation was inefficient for large histories.
-		// By relying on the userId stored with each execution event, we can directly
-		// query the history repository with pagination, which is much more performant.
-		// This requires a `findByUserId(String userId, Pageable pageable)` method in the repository.
-		return historyRepository.findByUserId(user.getId(), pageable)
-				.map(event -> new ScheduleHistoryResponse(
+	public ScheduleHistorySliceResponse getScheduleExecutionHistory(User user, String cursor, int size, boolean includeCount) {
+		// Why: Keyset pagination on (executionTime, id) seeks through the user's index instead of skipping OFFSET rows,
+		// and a Slice needs no count(*), so every page costs the same however deep it is.
+		Pageable pageable = PageRequest.of(0, size);
+		Slice<ScheduleExecutionHistory> events = HistoryCursor.decode(cursor)
+				.map(position -> historyRepository.findByUserIdBefore(user.getId(), position.timestamp(), position.id(), pageable))
+				.orElseGet(() -> historyRepository.findLatestByUserId(user.getId(), pageable));
+		List<ScheduleHistoryResponse> items = events.map(event -> new ScheduleHistoryResponse(
 						formatExecutionTypeForDisplay(event.getExecutionType()),
 						event.getExecutionTime(),
 						event.getScheduleName(),
 						event.getDetails(),
-						event.getStatus()
-				));
+						event.getStatus(),
+						event.getId()
+				)).getContent();
+		Long count = includeCount ? historyRepository.countByUserIdUpTo(user.getId(), APPROXIMATE_COUNT_LIMIT + 1) : null;
+		return toSliceResponse(items, events.hasNext(), count);
     }
 
+	private static ScheduleHistorySliceResponse toSliceResponse(List<ScheduleHistoryResponse> items, boolean hasNext, Long count) {
+		String nextCursor = hasNext && !items.isEmpty()
+				? new HistoryCursor(items.getLast().getTimestamp(), items.getLast().getId()).encode()
+				: null;
+		return new ScheduleHistorySliceResponse(items, nextCursor,
+				count == null ? null : Math.min(count, APPROXIMATE_COUNT_LIMIT),
+				count == null ? null : count > APPROXIMATE_COUNT_LIMIT);
+	}
+
 	/**
 	 * Formats the internal ExecutionType enum into a user-friendly string for display in the UI.
 	 * @param type The {@link ScheduleExecutionHistory.ExecutionType} to format.
@@ -208,19 +241,23 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 			case REGULAR -> "Scheduled Run";
 			case RECONCILIATION_CONTINUOUS -> "Continuous Correction";
 			case RECONCILIATION_STARTUP -> "Startup Correction";
+			case MISFIRE_CATCH_UP -> "Missed Run Catch-Up";
 		};
 	}
 
 	@Override
 	@Transactional(readOnly = true)
-	public List<ScheduleRequest> getSchedulesForExport(User user) {
-		return findSchedulesByUser(user).stream()
-				.map(this::mapResponseToRequest)
-				.collect(Collectors.toList());
+	public void exportSchedules(User user, Consumer<ScheduleRequest> action) {
+		try (Stream<SchedulePeriod> periods = periodRepository.streamAllByUserOrderByCreatedAtDesc(user)) {
+			periods.map(this::mapPeriodToResponse)
+					.map(this::mapResponseToRequest)
+					.forEach(action);
+		}
 	}
 
 	@Override
-	@Transactional
+	// Why: Deliberately not @Transactional. The Tesla site lookup is a slow network call and must not hold a pooled
+	// connection, so only the duplicate checks and inserts run inside a transaction.
 	public ImportResult importSchedules(List<ScheduleRequest> schedules, User user) {
 		if (schedules == null || schedules.isEmpty()) {
 			return new ImportResult(0, Collections.emptyList(), Collections.emptyList());
@@ -241,12 +278,24 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 		// If a user has multiple sites, they can edit the imported schedule to change this.
 		final String defaultEnergySiteId = schedulableSites.getFirst().getEnergySiteId();
 
+		return transactionOperations.execute(status -> importNewSchedules(schedules, user, defaultEnergySiteId));
+	}
+
+	/**
+	 * Transactional part of an import: skips duplicates, validates the remaining schedules and creates them.
+	 *
+	 * @param schedules The schedules to import.
+	 * @param user The user for whom the schedules will be created.
+	 * @param defaultEnergySiteId The energy site to assign to every imported schedule.
+	 * @return The outcome of the import.
+	 */
+	private ImportResult importNewSchedules(List<ScheduleRequest> schedules, User user, String defaultEnergySiteId) {
 		// Why: To prevent duplicate schedules, we first gather all existing schedule names for the user.
 		// This allows for an efficient check during the validation phase.
-		Set<String> existingScheduleNames = findSchedulesByUser(user).stream()
+		List<ScheduleResponse> existingSchedules = findSchedulesByUser(user);
+		Set<String> existingScheduleNames = existingSchedules.stream()
 				.map(ScheduleResponse::getName)
 				.collect(Collectors.toSet());
-		List<ScheduleResponse> existingSchedules = findSchedulesByUser(user);
 
 		// Separate new schedules from duplicates. Duplicates will be skipped, but new schedules must be valid.
 		List<ScheduleRequest> schedulesToCreate = new ArrayList<>();
@@ -353,21 +402,24 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 	 * @return A response object for the newly created schedule.
 	 */
 	private ScheduleResponse createSchedulePeriodInternal(ScheduleRequest request, User user, String auditInfo) {
-		UUID groupId = UUID.randomUUID();
+		UUID groupId = UuidV7.generate();
 		PowerwallSchedule startDischarge = createScheduleEvent(request, user, groupId, ScheduleEventType.START_DISCHARGE, request.getStartTime(), request.getOnPeakBackupPercent());
 		PowerwallSchedule startCharge = createScheduleEvent(request, user, groupId, ScheduleEventType.START_CHARGE, request.getEndTime(), request.getOffPeakBackupPercent());
 
 		// Use saveAll for a more efficient batch operation.
 		scheduleRepository.saveAll(List.of(startDischarge, startCharge));
+		SchedulePeriod period = SchedulePeriod.of(startDischarge, startCharge);
+		periodRepository.save(period);
+		publishScheduleChanges(List.of(startDischarge, startCharge));
 
 		Map<String, Object> details = Map.of("info", auditInfo, "on-peak", request.getStartTime() + " @" + request.getOnPeakBackupPercent() + "%", "off-peak", request.getEndTime() + " @" + request.getOffPeakBackupPercent() + "%", "days", formatDaysForAudit(request.getDaysOfWeek()));
 		logAuditEvent(user, groupId, request.getName(), ScheduleAuditEvent.AuditAction.CREATED, details);
-		return mapGroupToResponse(List.of(startDischarge, startCharge)).orElseThrow();
+		return mapPeriodToResponse(period);
 	}
 
     private PowerwallSchedule createScheduleEvent(ScheduleRequest request, User user, UUID groupId, ScheduleEventType type, LocalTime time, int backupPercent) {
         PowerwallSchedule schedule = new PowerwallSchedule();
-        schedule.setId(UUID.randomUUID());
+        schedule.setId(UuidV7.generate());
         schedule.setScheduleGroupId(groupId);
         schedule.setUser(user);
         schedule.setName(request.getName());
@@ -405,6 +457,13 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
 				request.getReconciliationMode() != null ? request.getReconciliationMode() : ReconciliationMode.CONTINUOUS);
 	}
 
+	/**
+	 * Tells other instances to drop these schedules from their caches once this transaction commits.
+	 */
+	private void publishScheduleChanges(List<PowerwallSchedule> schedules) {
+		schedules.forEach(schedule -> invalidationBus.publish(CacheRegions.POWERWALL_SCHEDULES, schedule.getId()));
+	}
+
     private void logAuditEvent(User user, UUID scheduleGroupId, String scheduleName, ScheduleAuditEvent.AuditAction action, Map<String, Object> details) {
         ScheduleAuditEvent event = new ScheduleAuditEvent();
         event.setUser(user);
@@ -465,40 +524,23 @@ public class PowerwallScheduleServiceImpl implements PowerwallScheduleService {
         return schedules;
     }
 
-    private Optional<ScheduleResponse> mapGroupToResponse(List<PowerwallSchedule> group) {
-        if (group == null || group.size() < 2) {
-            return Optional.empty(); // A valid group must have at least a start and end event
-        }
-
-        Optional<PowerwallSchedule> startDischargeOpt = group.stream().filter(s -> s.getEventType() == ScheduleEventType.START_DISCHARGE).findFirst();
-        Optional<PowerwallSchedule> startChargeOpt = group.stream().filter(s -> s.getEventType() == ScheduleEventType.START_CHARGE).findFirst();
-
-        if (startDischargeOpt.isEmpty() || startChargeOpt.isEmpty()) {
-            return Optional.empty(); // Incomplete group
-        }
-
-        PowerwallSchedule startDischarge = startDischargeOpt.get();
-        PowerwallSchedule startCharge = startChargeOpt.get();
-
+    private ScheduleResponse mapPeriodToResponse(SchedulePeriod period) {
         ScheduleResponse response = new ScheduleResponse();
-        response.setScheduleGroupId(startDischarge.getScheduleGroupId());
-        response.setName(startDischarge.getName());
-        response.setDescription(startDischarge.getDescription());
-        response.setEnergySiteId(startDischarge.getEnergySiteId());
-        response.setDaysOfWeek(startDischarge.getDaysOfWeek());
-        response.setTimeZone(startDischarge.getTimeZone());
-        response.setEnabled(startDischarge.isEnabled());
-		response.setReconciliationMode(startDischarge.getReconciliationMode());
-        response.setCreatedAt(startDischarge.getCreatedAt());
-        response.setUpdatedAt(startDischarge.getUpdatedAt());
-
-        // Populate period-specific fields
-        response.setStartTime(startDischarge.getScheduledTime());
-        response.setEndTime(startCharge.getScheduledTime());
-        response.setOnPeakBackupPercent(startDischarge.getBackupPercent());
-        response.setOffPeakBackupPercent(startCharge.getBackupPercent());
-
-        return Optional.of(response);
+        response.setScheduleGroupId(period.getScheduleGroupId());
+        response.setName(period.getName());
+        response.setDescription(period.getDescription());
+        response.setEnergySiteId(period.getEnergySiteId());
+        response.setDaysOfWeek(period.getDaysOfWeek());
+        response.setTimeZone(period.getTimeZone());
+        response.setEnabled(period.isEnabled());
+		response.setReconciliationMode(period.getReconciliationMode());
+        response.setCreatedAt(period.getCreatedAt());
+        response.setUpdatedAt(period.getUpdatedAt());
+        response.setStartTime(period.getStartTime());
+        response.setEndTime(period.getEndTime());
+        response.setOnPeakBackupPercent(period.getOnPeakBackupPercent());
+        response.setOffPeakBackupPercent(period.getOffPeakBackupPercent());
+        return response;
     }
 
     /**
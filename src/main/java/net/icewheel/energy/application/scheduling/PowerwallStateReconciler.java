@@ -23,17 +23,23 @@ import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.api.rest.dto.ScheduleResponse;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
+import net.icewheel.energy.config.StartupReconciliationConfig;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import net.icewheel.energy.infrastructure.scheduling.SchedulerLanesConfig;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudgetExceededException;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallPriority;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
@@ -60,15 +66,16 @@ public class PowerwallStateReconciler {
 	// highly testable, as the clock can be replaced with a fixed or manipulated version in tests
 	// to verify behavior at specific moments in time without changing the system clock.
 	private final Clock clock;
-
-	private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+	private final StartupReconciliationConfig startupConfig;
+	private final StartupReconciliationProgress startupProgress;
+	private final ExecutionHistoryConfig historyConfig;
 
 	/**
 	 * Runs a scheduled job to enforce schedules marked as CONTINUOUS.
 	 * It iterates through all users and ensures their Powerwall's backup reserve is correctly set.
 	 * A scheduler lock prevents concurrent executions in a multi-instance environment.
 	 */
-	@Scheduled(cron = "${app.state-reconciliation.cron:0 */15 * * * *}")
+	@Scheduled(cron = "${app.state-reconciliation.cron:0 */15 * * * *}", scheduler = SchedulerLanesConfig.RECONCILIATION_LANE)
 	@SchedulerLock(name = "reconcilePowerwallState", lockAtMostFor = "10m", lockAtLeastFor = "1m")
 	public void reconcileContinuously() {
 		log.info("Starting periodic Powerwall state reconciliation job for CONTINUOUS schedules.");
@@ -82,7 +89,9 @@ public class PowerwallStateReconciler {
 						.toList();
 
 				if (!continuousSchedules.isEmpty()) {
-					reconcilePowerwallStateForUser(user, continuousSchedules, ScheduleExecutionHistory.ExecutionType.RECONCILIATION_CONTINUOUS);
+					// Why: Sweeps yield Tesla capacity to scheduled commands and UI reads (see TeslaCallBudget).
+					TeslaCallPriority.BACKGROUND.run(() ->
+							reconcilePowerwallStateForUser(user, continuousSchedules, ScheduleExecutionHistory.ExecutionType.RECONCILIATION_CONTINUOUS));
 				}
 			}
 			catch (Exception e) {
@@ -95,26 +104,53 @@ public class PowerwallStateReconciler {
 	/**
 	 * Runs a one-time reconciliation for all schedules upon application startup.
 	 * This ensures the system state is correct even if the application was down when a schedule should have changed.
+	 * <p>
+	 * Users are reconciled on virtual threads, at most {@code app.startup-reconciliation.parallelism} at a time,
+	 * and progress is published through {@link StartupReconciliationProgress}. The method returns once every user
+	 * has been checked.
+	 * </p>
 	 */
 	public void reconcileOnStartup() {
 		log.info("Starting one-time Powerwall state reconciliation on startup for ALL schedules.");
 		List<User> allUsers = userRepository.findAll();
-		for (User user : allUsers) {
-			try {
-				List<ScheduleResponse> schedules = scheduleService.findSchedulesByUser(user);
-				boolean hasEnabledSchedules = schedules.stream().anyMatch(ScheduleResponse::isEnabled);
+		startupProgress.start("full reconciliation", allUsers.size());
 
-				if (hasEnabledSchedules) {
-					reconcilePowerwallStateForUser(user, schedules, ScheduleExecutionHistory.ExecutionType.RECONCILIATION_STARTUP);
-				}
-			}
-			catch (Exception e) {
-				log.error("Failed to reconcile state for user {}: {}", user.getId(), e.getMessage(), e);
+		// Why: Acquiring the permit before submitting bounds both the in-flight Tesla calls and the number of
+		// queued tasks, so a restart with many users neither bursts the API nor materializes thousands of threads.
+		Semaphore permits = new Semaphore(startupConfig.getParallelism());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (User user : allUsers) {
+				permits.acquireUninterruptibly();
+				executor.execute(() -> {
+					try {
+						startupProgress.itemProcessed(reconcileUserOnStartup(user));
+					}
+					finally {
+						permits.release();
+					}
+				});
 			}
 		}
 		log.info("One-time Powerwall state reconciliation on startup finished. Checked {} users.", allUsers.size());
 	}
 
+	private boolean reconcileUserOnStartup(User user) {
+		try {
+			List<ScheduleResponse> schedules = scheduleService.findSchedulesByUser(user);
+			boolean hasEnabledSchedules = schedules.stream().anyMatch(ScheduleResponse::isEnabled);
+
+			if (hasEnabledSchedules) {
+				TeslaCallPriority.BACKGROUND.run(() ->
+						reconcilePowerwallStateForUser(user, schedules, ScheduleExecutionHistory.ExecutionType.RECONCILIATION_STARTUP));
+			}
+			return true;
+		}
+		catch (Exception e) {
+			log.error("Failed to reconcile state for user {}: {}", user.getId(), e.getMessage(), e);
+			return false;
+		}
+	}
+
 	/**
 	 * Reconciles the Powerwall state for a single user based on their schedules.
 	 * It determines the expected backup reserve by checking if the current time falls within an on-peak or off-peak period.
@@ -171,13 +207,12 @@ public class PowerwallStateReconciler {
 		final int expectedBackupPercent;
 		final ScheduleResponse winningSchedule;
 
+		expectedBackupPercent = BackupReserveTargets.resolve("on-peak".equals(activePeriod), targets);
 		if ("on-peak".equals(activePeriod)) {
-			expectedBackupPercent = Collections.min(targets);
 			winningSchedule = activeSchedules.stream().filter(s -> s.getOnPeakBackupPercent() == expectedBackupPercent)
 					.findFirst().orElse(activeSchedules.get(0));
 		}
 		else { // off-peak
-			expectedBackupPercent = Collections.max(targets);
 			winningSchedule = activeSchedules.stream().filter(s -> s.getOffPeakBackupPercent() == expectedBackupPercent)
 					.findFirst().orElse(activeSchedules.get(0));
 		}
@@ -194,26 +229,33 @@ public class PowerwallStateReconciler {
 		try {
 			if (actualBackupPercent != expectedBackupPercent) {
 				log.warn("State mismatch for site {} (user {}). Optimal: {}%, Actual: {}%. Reconciling...", winningSchedule.getEnergySiteId(), user.getId(), expectedBackupPercent, actualBackupPercent);
-				boolean success = teslaEnergyService.setBackupReserve(user.getId(), String.valueOf(winningSchedule.getEnergySiteId()), expectedBackupPercent);
+				boolean success;
+				try {
+					success = teslaEnergyService.setBackupReserve(user.getId(), String.valueOf(winningSchedule.getEnergySiteId()), expectedBackupPercent);
+				}
+				catch (TeslaCallBudgetExceededException e) {
+					// Why: The next reconciliation run checks the site again, so a correction is not queued for a retry.
+					log.warn("Could not reconcile site {} (user {}): {}", winningSchedule.getEnergySiteId(), user.getId(), e.getMessage());
+					success = false;
+				}
 				if (success) {
-					String details;
+					ScheduleExecutionHistory history = newReconciliationHistory(activePeriod, ScheduleExecutionHistory.Outcome.RECONCILIATION_CORRECTED, expectedBackupPercent);
+					history.setActualPercent((short) actualBackupPercent);
 					if ("on-peak".equals(activePeriod)) {
-						details = String.format("Automatic correction for schedule '%s' during its on-peak window (%s - %s). The backup reserve was at %d%% and has been corrected to the scheduled %d%%.", winningSchedule.getName(), formatTime(winningSchedule.getStartTime()), formatTime(winningSchedule.getEndTime()), actualBackupPercent, expectedBackupPercent);
+						history.setWindowStart(winningSchedule.getStartTime());
+						history.setWindowEnd(winningSchedule.getEndTime());
 					}
-					else { // off-peak
-						details = String.format("Automatic correction during an off-peak period. The backup reserve was at %d%% and has been corrected to the scheduled %d%% (based on schedule '%s').", actualBackupPercent, expectedBackupPercent, winningSchedule.getName());
-					}
-					saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, details, ScheduleExecutionHistory.ExecutionStatus.SUCCESS, executionType);
+					saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, history, ScheduleExecutionHistory.ExecutionStatus.SUCCESS, executionType);
 				}
 				else {
 					log.error("Failed to reconcile state for site {}. API call to set backup reserve was not successful.", winningSchedule.getEnergySiteId());
-					String details = String.format("Automatic correction failed for schedule '%s'. The API call to set backup reserve to %d%% was not accepted by Tesla.", winningSchedule.getName(), expectedBackupPercent);
-					saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, details, ScheduleExecutionHistory.ExecutionStatus.FAILURE, executionType);
+					ScheduleExecutionHistory history = newReconciliationHistory(activePeriod, ScheduleExecutionHistory.Outcome.RECONCILIATION_REJECTED, expectedBackupPercent);
+					saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, history, ScheduleExecutionHistory.ExecutionStatus.FAILURE, executionType);
 				}
 			}
 			else {
-				String details = String.format("Automatic check during an %s period for schedule '%s'. The Powerwall's backup reserve is already correctly set to %d%%. No action was needed.", activePeriod, winningSchedule.getName(), expectedBackupPercent);
-				saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, details, ScheduleExecutionHistory.ExecutionStatus.SKIPPED, executionType);
+				ScheduleExecutionHistory history = newReconciliationHistory(activePeriod, ScheduleExecutionHistory.Outcome.RECONCILIATION_ALREADY_SET, expectedBackupPercent);
+				saveReconciliationHistoryEntry(user, winningSchedule, activePeriod, history, ScheduleExecutionHistory.ExecutionStatus.SKIPPED, executionType);
 			}
 		}
 		catch (Exception e) {
@@ -240,13 +282,14 @@ public class PowerwallStateReconciler {
 	}
 
 	/**
-	 * Formats a LocalTime into a user-friendly string (e.g., "5:30 PM").
-	 * @param time The time to format.
-	 * @return A formatted time string.
+	 * Creates a history entry holding the outcome code and parameters; its text is rendered only when displayed.
 	 */
-	private String formatTime(LocalTime time) {
-		if (time == null) return "N/A";
-		return time.format(TIME_FORMATTER);
+	private ScheduleExecutionHistory newReconciliationHistory(String activePeriod, ScheduleExecutionHistory.Outcome outcome, int targetPercent) {
+		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
+		history.setOutcome(outcome);
+		history.setOnPeak("on-peak".equals(activePeriod));
+		history.setTargetPercent((short) targetPercent);
+		return history;
 	}
 
 	/**
@@ -256,11 +299,11 @@ public class PowerwallStateReconciler {
 	 * @param user The user whose Powerwall was adjusted.
 	 * @param schedule The user's active schedule settings.
 	 * @param activePeriod A string indicating if the event was "on-peak" or "off-peak".
-	 * @param details A descriptive string explaining what happened.
+	 * @param history The entry carrying the outcome code and parameters of what happened.
 	 * @param status The final status of the event (e.g., SUCCESS, SKIPPED).
 	 * @param executionType The type of reconciliation that was performed.
 	 */
-	private void saveReconciliationHistoryEntry(User user, ScheduleResponse schedule, String activePeriod, String details, ScheduleExecutionHistory.ExecutionStatus status, ScheduleExecutionHistory.ExecutionType executionType) {
+	private void saveReconciliationHistoryEntry(User user, ScheduleResponse schedule, String activePeriod, ScheduleExecutionHistory history, ScheduleExecutionHistory.ExecutionStatus status, ScheduleExecutionHistory.ExecutionType executionType) {
 		var schedules = powerwallScheduleRepository.findAllByScheduleGroupId(schedule.getScheduleGroupId());
 		if (schedules == null || schedules.isEmpty()) {
 			log.warn("Could not save reconciliation history. No schedules found for group ID: {}", schedule.getScheduleGroupId());
@@ -282,15 +325,20 @@ public class PowerwallStateReconciler {
 				return;
 			}
 		}
-		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
 		history.setExecutionType(executionType);
 		history.setStatus(status);
 		history.setUserId(user.getId());
 		history.setScheduleId(pws.getId());
 		history.setScheduleGroupId(pws.getScheduleGroupId());
 		history.setScheduleName(pws.getName());
-		history.setCronExpression(pws.getCronExpression());
-		history.setDetails(details);
+		if (historyConfig.isCompactSkipped() && status == ScheduleExecutionHistory.ExecutionStatus.SKIPPED) {
+			// Why: Continuous checks repeat the same "already set" result every run; folding them keeps one row per streak.
+			var previous = historyRepository.findFirstByScheduleIdOrderByExecutionTimeDesc(pws.getId());
+			if (previous.isPresent() && previous.get().isRepeatedBy(history)
+					&& historyRepository.recordRepetition(previous.get().getId(), clock.instant()) > 0) {
+				return;
+			}
+		}
 		historyRepository.save(history);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the progress of the one-time startup work (missed event catch-up and, optionally, full reconciliation)
+ * so it can be reported through health and metrics. Items are missed events or users, depending on the phase.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupReconciliationProgress implements MeterBinder {
+
+	public enum State {
+		PENDING, RUNNING, COMPLETED, SKIPPED, FAILED
+	}
+
+	private final Clock clock;
+
+	private final AtomicInteger total = new AtomicInteger();
+	private final AtomicInteger processed = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+	private volatile String phase;
+	private volatile State state = State.PENDING;
+	private volatile Instant startedAt;
+	private volatile Instant finishedAt;
+	private volatile String error;
+
+	/**
+	 * Starts a new phase of the startup work; counters are reset, the overall start time is kept.
+	 */
+	public void start(String phaseName, int itemCount) {
+		total.set(itemCount);
+		processed.set(0);
+		failed.set(0);
+		phase = phaseName;
+		if (state != State.RUNNING) {
+			startedAt = clock.instant();
+		}
+		finishedAt = null;
+		error = null;
+		state = State.RUNNING;
+	}
+
+	public void itemProcessed(boolean succeeded) {
+		if (!succeeded) {
+			failed.incrementAndGet();
+		}
+		int done = processed.incrementAndGet();
+		int count = total.get();
+		// Log roughly every 10% so a long warm-up is visible without flooding the log.
+		int step = Math.max(1, count / 10);
+		if (done % step == 0 || done == count) {
+			log.info("Startup {} progress: {}/{} ({} failed).", phase, done, count, failed.get());
+		}
+	}
+
+	public void complete() {
+		finish(State.COMPLETED);
+	}
+
+	public void skip() {
+		finish(State.SKIPPED);
+	}
+
+	public void fail(Throwable cause) {
+		error = cause.getMessage();
+		finish(State.FAILED);
+	}
+
+	/**
+	 * @return true once the startup run has ended, whether it completed, was skipped or failed.
+	 */
+	public boolean isFinished() {
+		return state == State.COMPLETED || state == State.SKIPPED || state == State.FAILED;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public String getPhase() {
+		return phase;
+	}
+
+	public int getTotal() {
+		return total.get();
+	}
+
+	public int getProcessed() {
+		return processed.get();
+	}
+
+	public int getFailed() {
+		return failed.get();
+	}
+
+	public Instant getStartedAt() {
+		return startedAt;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("icewheel.reconciliation.startup.items", total, AtomicInteger::get)
+				.description("Items (missed events or users) handled by the current startup phase")
+				.tag("outcome", "total")
+				.register(registry);
+		Gauge.builder("icewheel.reconciliation.startup.items", processed, AtomicInteger::get)
+				.description("Items (missed events or users) handled by the current startup phase")
+				.tag("outcome", "processed")
+				.register(registry);
+		Gauge.builder("icewheel.reconciliation.startup.items", failed, AtomicInteger::get)
+				.description("Items (missed events or users) handled by the current startup phase")
+				.tag("outcome", "failed")
+				.register(registry);
+	}
+
+	private void finish(State finalState) {
+		finishedAt = clock.instant();
+		state = finalState;
+	}
+}
@@ -25,7 +25,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import net.icewheel.energy.infrastructure.scheduling.SchedulerLanesConfig;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.TokenService;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallPriority;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
 import org.springframework.scheduling.annotation.Scheduled;
@@ -49,7 +51,7 @@ public class TokenRefreshScheduler {
 	 * The cron schedule is defined in `application.yml` under `app.token-refresh.cron`.
 	 * ShedLock is used to ensure this task only runs on a single instance in a multi-node environment.
      */
-	@Scheduled(cron = "${app.token-refresh.cron}")
+	@Scheduled(cron = "${app.token-refresh.cron}", scheduler = SchedulerLanesConfig.TOKEN_REFRESH_LANE)
 	@SchedulerLock(name = "proactiveTokenRefresh", lockAtMostFor = "10m", lockAtLeastFor = "1m")
 	public void proactivelyRefreshTokens() {
 		log.info("Starting proactive token refresh job.");
@@ -59,7 +61,7 @@ public class TokenRefreshScheduler {
 			try {
 				// The getValidAccessToken method contains the logic to check for expiration (using the configured threshold)
 				// and refresh if needed. Calling it is sufficient to trigger the refresh.
-				tokenService.getValidAccessToken(user.getId());
+				TeslaCallPriority.BACKGROUND.call(() -> tokenService.getValidAccessToken(user.getId()));
 			}
 			catch (Exception e) {
 				log.warn("Could not ensure valid token for user {}. Reason: {}", user.getId(), e.getMessage());
@@ -0,0 +1,65 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the cluster-wide cache invalidation bus (see {@code CacheInvalidationBus}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+@Getter
+@Setter
+@Validated
+public class CacheInvalidationConfig {
+
+	/**
+	 * Whether changes are broadcast to, and received from, other instances sharing the database. Only needed when
+	 * more than one instance runs with in-process caches.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * How often the polling fallback (databases without LISTEN/NOTIFY, such as H2) checks for new events.
+	 */
+	@NotNull
+	private Duration pollInterval = Duration.ofMillis(200);
+
+	/**
+	 * How long the polling fallback keeps published events before deleting them.
+	 */
+	@NotNull
+	private Duration eventRetention = Duration.ofMinutes(5);
+
+	/**
+	 * How long the PostgreSQL listener waits before reconnecting after its connection failed.
+	 */
+	@NotNull
+	private Duration reconnectDelay = Duration.ofSeconds(5);
+}
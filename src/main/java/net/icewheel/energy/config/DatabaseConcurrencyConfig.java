@@ -0,0 +1,70 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = DatabaseConcurrencyConfig.PREFIX)
+@Getter
+@Setter
+@Validated
+public class DatabaseConcurrencyConfig {
+
+	public static final String PREFIX = "app.database-concurrency";
+
+	/**
+	 * Whether database connections are admitted through a fair semaphore in front of the connection pool.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The number of threads allowed to hold a database connection at once.
+	 * A value of 0 sizes the limit to the connection pool's maximum size.
+	 */
+	@Min(0)
+	private int maxConcurrent = 0;
+
+	/**
+	 * How long a thread may wait for a permit before the connection request fails.
+	 */
+	@NotNull
+	private Duration acquireTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * Whether JFR {@code jdk.VirtualThreadPinned} events are streamed, logged and counted.
+	 */
+	private boolean pinningMonitorEnabled = true;
+
+	/**
+	 * Pinning events shorter than this are ignored.
+	 */
+	@NotNull
+	private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,56 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Sizing of the Hibernate second-level cache regions (see {@code EntityCacheConfiguration}). The cache itself is
+ * switched on and off with {@code ENTITY_CACHE_ENABLED}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.entity-cache")
+@Getter
+@Setter
+@Validated
+public class EntityCacheConfig {
+
+	/**
+	 * How long an entry stays cached after it was written. Local writes evict entries immediately; this bounds how
+	 * long another instance can serve a stale entry when no cluster invalidation is in place.
+	 */
+	@NotNull
+	private Duration timeToLive = Duration.ofMinutes(30);
+
+	/**
+	 * The maximum number of entries held by each entity and query region.
+	 */
+	@Min(1)
+	private long maximumSize = 10_000;
+}
@@ -0,0 +1,82 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "app.execution-history")
+@Getter
+@Setter
+@Validated
+public class ExecutionHistoryConfig {
+
+	/**
+	 * Whether a SKIPPED reconciliation outcome that repeats the schedule's previous entry is folded into that entry,
+	 * extending its last-seen time and count, instead of being written as a new row.
+	 */
+	private boolean compactSkipped = true;
+
+	/**
+	 * How long execution history and schedule audit events are kept. A zero duration keeps them forever.
+	 */
+	@NotNull
+	private Duration retention = Duration.ofDays(365);
+
+	/**
+	 * How many rows a single statement of the batched delete removes, keeping each transaction short.
+	 */
+	@Min(1)
+	private int deleteBatchSize = 1000;
+
+	/**
+	 * PostgreSQL only: how many monthly history partitions are created ahead of the current month.
+	 */
+	@Min(1)
+	private int partitionMonthsAhead = 3;
+
+	/**
+	 * PostgreSQL only: directory expired history partitions are exported to as gzip-compressed CSV before they are
+	 * dropped. Leave empty to drop them without an export.
+	 */
+	private String exportDirectory = "";
+
+	/**
+	 * How long a single history download may stream before the request is timed out.
+	 */
+	@NotNull
+	private Duration exportTimeout = Duration.ofMinutes(30);
+
+	/**
+	 * How many history downloads may run at once. Each one holds a database connection while it streams, so this
+	 * stays well below the connection pool size.
+	 */
+	@Min(1)
+	private int maxConcurrentExports = 2;
+}
@@ -0,0 +1,85 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the read replicas that serve read-only transactions in the {@code postgres} profile.
+ */
+@Component
+@ConfigurationProperties(prefix = ReadReplicaConfig.PREFIX)
+@Getter
+@Setter
+@Validated
+public class ReadReplicaConfig {
+
+	public static final String PREFIX = "app.read-replicas";
+
+	/**
+	 * Whether read-only transactions are sent to the replicas below. Writes always go to the primary.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * JDBC URLs of the replicas, used in turn.
+	 */
+	@NotNull
+	private List<String> urls = new ArrayList<>();
+
+	/**
+	 * User name for the replicas. When empty, the primary's user name is used.
+	 */
+	private String username;
+
+	/**
+	 * Password for the replicas. When empty, the primary's password is used.
+	 */
+	private String password;
+
+	/**
+	 * Maximum size of each replica's connection pool.
+	 */
+	@Min(1)
+	private int maximumPoolSize = 10;
+
+	/**
+	 * How far a replica may fall behind the primary before reads go back to the primary.
+	 */
+	@NotNull
+	private Duration maxLag = Duration.ofSeconds(5);
+
+	/**
+	 * How often each replica's replication lag is measured.
+	 */
+	@NotNull
+	private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
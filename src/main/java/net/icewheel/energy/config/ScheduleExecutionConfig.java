@@ -0,0 +1,59 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "app.schedule-execution")
+@Getter
+@Setter
+@Validated
+public class ScheduleExecutionConfig {
+
+	/**
+	 * How recently a site's backup reserve must have been observed for the executor to trust it and skip a
+	 * command that would not change anything. A zero duration disables skipping.
+	 */
+	@NotNull
+	private Duration siteStateMaxAge = Duration.ofMinutes(5);
+
+	/**
+	 * The window after the minute boundary across which a tick's site commands are spread.
+	 * Every command is dispatched within this window; a zero duration sends everything at once.
+	 */
+	@NotNull
+	private Duration dispatchWindow = Duration.ofSeconds(30);
+
+	/**
+	 * How many site commands per tick are sent immediately before the rest are spread across the window.
+	 */
+	@Min(1)
+	private int immediateDispatchLimit = 10;
+}
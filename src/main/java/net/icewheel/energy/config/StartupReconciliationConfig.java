@@ -0,0 +1,65 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "app.startup-reconciliation")
+@Getter
+@Setter
+@Validated
+public class StartupReconciliationConfig {
+
+	/**
+	 * Whether missed schedule events are caught up in the background once the application is ready.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Only events that were due within this window before startup are replayed; older ones are considered stale
+	 * and left to the periodic reconciliation. Commands deferred for lack of Tesla call capacity are retried for
+	 * the same window.
+	 */
+	@NotNull
+	private Duration graceWindow = Duration.ofHours(1);
+
+	/**
+	 * Whether a full state reconciliation of every user also runs after the catch-up. It runs regardless while an
+	 * enabled schedule older than the grace window has no last-fired entry.
+	 */
+	private boolean fullReconciliation = false;
+
+	/**
+	 * The maximum number of users reconciled concurrently during a full startup reconciliation.
+	 * Each user involves live Tesla API calls, so this also bounds the burst sent to Tesla after a restart.
+	 */
+	@Min(1)
+	private int parallelism = 8;
+}
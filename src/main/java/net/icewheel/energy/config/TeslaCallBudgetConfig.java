@@ -0,0 +1,67 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.config;
+
+import java.time.Duration;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "app.tesla-call-budget")
+@Getter
+@Setter
+@Validated
+public class TeslaCallBudgetConfig {
+
+	/**
+	 * The maximum number of Tesla API calls in flight at once, shared by all priority lanes.
+	 */
+	@Min(1)
+	private int maxConcurrentCalls = 16;
+
+	/**
+	 * How long a call may wait for admission before it fails.
+	 */
+	@NotNull
+	private Duration acquireTimeout = Duration.ofSeconds(30);
+
+	/**
+	 * The share of the budget interactive (UI) reads may occupy at once. Commands may always use all of it.
+	 */
+	@DecimalMin("0.0")
+	@DecimalMax("1.0")
+	private double interactiveShare = 0.75;
+
+	/**
+	 * The share of the budget background work (reconciliation, token refresh) may occupy at once.
+	 */
+	@DecimalMin("0.0")
+	@DecimalMax("1.0")
+	private double backgroundShare = 0.5;
+}
@@ -24,21 +24,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.Setter;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.shared.model.Auditable;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.domain.Token;
+import net.icewheel.energy.shared.converter.JsonMapConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @Getter
 @Setter
 public class User extends Auditable implements Serializable {
@@ -66,37 +75,12 @@ public class User extends Auditable implements Serializable {
 	/**
 	 * Stores the full user profile from the OAuth2 provider as a JSON object.
 	 * This provides flexibility to access new profile attributes without changing the database schema.
-	 * Mapped to a jsonb column in PostgreSQL.
+	 * Mapped to a jsonb column in PostgreSQL and only parsed when first read.
 	 */
+	@Convert(converter = JsonMapConverter.class)
+	@JdbcTypeCode(SqlTypes.JSON)
 	@Column(name = "profile_attributes", columnDefinition = "TEXT")
-	private String profileAttributes;
-
-	@Transient
-	private Map<String, Object> profileAttributesMap;
-
-	public Map<String, Object> getProfileAttributes() {
-		if (this.profileAttributesMap == null && this.profileAttributes != null) {
-			try {
-				com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-				mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-				this.profileAttributesMap = mapper.readValue(this.profileAttributes, new com.fasterxml.jackson.core.type.TypeReference<Map<String, Object>>() {});
-			} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-				throw new RuntimeException(e);
-			}
-		}
-		return this.profileAttributesMap;
-	}
-
-	public void setProfileAttributes(Map<String, Object> profileAttributes) {
-		this.profileAttributesMap = profileAttributes;
-		try {
-			com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-			mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-			this.profileAttributes = mapper.writeValueAsString(profileAttributes);
-		} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-			throw new RuntimeException(e);
-		}
-	}
+	private Map<String, Object> profileAttributes;
 
 	@OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PowerwallSchedule> powerwallSchedules = new ArrayList<>();
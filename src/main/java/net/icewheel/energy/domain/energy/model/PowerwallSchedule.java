@@ -22,13 +22,13 @@ package net.icewheel.energy.domain.energy.model;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.EnumSet;
 import java.util.Set;
 import java.util.UUID;
 
-import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -41,10 +41,15 @@ import lombok.Getter;
 import lombok.Setter;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.shared.model.Auditable;
-import net.icewheel.energy.shared.converter.LenientDayOfWeekConverter;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
+import net.icewheel.energy.shared.converter.DayOfWeekSetConverter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "powerwall_schedules")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POWERWALL_SCHEDULES)
 @Getter
 @Setter
 public class PowerwallSchedule extends Auditable {
@@ -67,11 +72,12 @@ public class PowerwallSchedule extends Auditable {
     @Column(nullable = false)
     private String energySiteId;
 
-    @ElementCollection(targetClass = DayOfWeek.class, fetch = FetchType.EAGER)
-    @CollectionTable(name = "powerwall_schedule_days", joinColumns = @JoinColumn(name = "schedule_id"))
-    @Convert(converter = LenientDayOfWeekConverter.class)
-    @Column(name = "day_of_week", nullable = false)
-    private Set<DayOfWeek> daysOfWeek;
+    /**
+     * Days the event fires on, stored as a bit mask on the schedule row (see {@link DayOfWeekSetConverter}).
+     */
+    @Convert(converter = DayOfWeekSetConverter.class)
+    @Column(name = "days_of_week", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
 
     @Column(nullable = false)
     private ZoneId timeZone;
@@ -105,6 +111,12 @@ public class PowerwallSchedule extends Auditable {
 	@Column(nullable = false, columnDefinition = "varchar(255) default 'CONTINUOUS'")
 	private ReconciliationMode reconciliationMode = ReconciliationMode.CONTINUOUS;
 
+	public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) {
+		this.daysOfWeek = daysOfWeek == null || daysOfWeek.isEmpty()
+				? EnumSet.noneOf(DayOfWeek.class)
+				: EnumSet.copyOf(daysOfWeek);
+	}
+
 	/**
 	 * JPA-safe equality check based on the entity's unique identifier.
 	 * This approach avoids issues with Hibernate proxies and mutable fields that can occur with default implementations.
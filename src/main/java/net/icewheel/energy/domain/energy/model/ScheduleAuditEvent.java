@@ -24,21 +24,23 @@ import java.util.Map;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.Setter;
 import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.shared.converter.JsonMapConverter;
+import net.icewheel.energy.shared.id.UuidV7Id;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "schedule_audit_events")
@@ -46,7 +48,7 @@ import org.hibernate.annotations.CreationTimestamp;
 @Setter
 public class ScheduleAuditEvent {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     @Column(nullable = false)
     private UUID scheduleGroupId;
@@ -58,35 +60,15 @@ public class ScheduleAuditEvent {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AuditAction action;
-    @Column(name = "details", columnDefinition = "TEXT")
-	private String details;
+	/**
+	 * Free-form, structured details about the change (e.g., the list of changed fields).
+	 * Stored as JSON (jsonb on PostgreSQL) and only parsed when first read.
+	 */
+	@Convert(converter = JsonMapConverter.class)
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "details", columnDefinition = "TEXT")
+	private Map<String, Object> details;
 
-	@Transient
-	private Map<String, Object> detailsMap;
-
-	public Map<String, Object> getDetails() {
-		if (this.detailsMap == null && this.details != null) {
-			try {
-				com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-				mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-				this.detailsMap = mapper.readValue(this.details, new com.fasterxml.jackson.core.type.TypeReference<Map<String, Object>>() {});
-			} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-				throw new RuntimeException(e);
-			}
-		}
-		return this.detailsMap;
-	}
-
-	public void setDetails(Map<String, Object> details) {
-		this.detailsMap = details;
-		try {
-			com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-			mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-			this.details = mapper.writeValueAsString(details);
-		} catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-			throw new RuntimeException(e);
-		}
-	}
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant timestamp;
@@ -0,0 +1,73 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.domain.energy.model;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A claim on a single scheduled event, keyed by the schedule and its nominal fire instant.
+ * <p>
+ * Why: The scheduler lock only bounds how long a tick may run. If a tick overruns the lease, or a node pauses,
+ * another node can take the lock and fire the same minute again. Claiming each event with an insert-if-absent on
+ * this primary key makes dispatch at-most-once cluster-wide, independent of lock timing.
+ * </p>
+ */
+@Entity
+@Table(name = "schedule_execution_claims")
+@IdClass(ScheduleExecutionClaim.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScheduleExecutionClaim {
+
+	@Id
+	@Column(name = "schedule_id", nullable = false)
+	private UUID scheduleId;
+
+	@Id
+	@Column(name = "fire_time", nullable = false)
+	private Instant fireTime;
+
+	@Column(name = "claimed_at", nullable = false)
+	private Instant claimedAt;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private UUID scheduleId;
+		private Instant fireTime;
+	}
+}
@@ -20,18 +20,20 @@
 package net.icewheel.energy.domain.energy.model;
 
 import java.time.Instant;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import net.icewheel.energy.shared.id.UuidV7Id;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
@@ -40,8 +42,10 @@ import org.hibernate.annotations.CreationTimestamp;
 @Setter
 public class ScheduleExecutionHistory {
 
+	private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(nullable = false)
@@ -60,20 +64,62 @@ public class ScheduleExecutionHistory {
     @Column(nullable = false, updatable = false)
     private Instant executionTime;
 
+	/**
+	 * When a compacted entry was last confirmed; {@link #executionTime} is when it was first seen.
+	 * Null for entries that were never folded.
+	 */
+	private Instant lastSeenAt;
+
+	/**
+	 * How many consecutive identical outcomes this entry stands for.
+	 */
+	@Column(nullable = false, columnDefinition = "INTEGER DEFAULT 1")
+	private int occurrences = 1;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
 	// Why: This ensures that only valid enum values are ever stored in the database, protecting data integrity at the DB level.
 //    @Check(constraints = "status IN ('SUCCESS', 'FAILURE', 'SKIPPED')")
     private ExecutionStatus status;
 
-    @Column(length = 1024)
-    private String details;
+	/**
+	 * What happened, as a compact code. The English text is rendered from it and the parameters below by
+	 * {@link #getDetails()} only when the entry is displayed.
+	 * Null for entries written before the structured encoding, which carry their text in {@link #details}.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(length = 32)
+	private Outcome outcome;
+
+	private Short actualPercent;
+
+	private Short targetPercent;
+
+	/**
+	 * Whether the entry concerns the on-peak (discharge) or the off-peak (charge) period.
+	 */
+	private Boolean onPeak;
 
-    @Column(length = 255)
-    private String cronExpression;
+	private LocalTime windowStart;
 
-    @Column(length = 255)
-    private String cronDescription;
+	private LocalTime windowEnd;
+
+	/**
+	 * Number of other schedules whose events were folded into the same site command.
+	 */
+	private Short combinedCount;
+
+	/**
+	 * Error message and exception type of a failed execution; the only free text written for new entries.
+	 */
+	@Column(length = 1024)
+	private String errorMessage;
+
+	/**
+	 * Pre-rendered text of legacy entries. New entries leave this empty and use {@link #outcome} instead.
+	 */
+	@Column(length = 1024)
+	private String details;
 
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, columnDefinition = "VARCHAR(255) DEFAULT 'REGULAR'")
@@ -82,7 +128,8 @@ public class ScheduleExecutionHistory {
 	public enum ExecutionType {
 		REGULAR, // A normal, scheduled execution via Quartz
 		RECONCILIATION_CONTINUOUS, // A periodic state correction check
-		RECONCILIATION_STARTUP // A one-time state correction check on application startup
+		RECONCILIATION_STARTUP, // A one-time state correction check on application startup
+		MISFIRE_CATCH_UP // A replay of an event that was due while the application was down
 
 	}
 
@@ -92,6 +139,96 @@ public class ScheduleExecutionHistory {
 		SKIPPED
     }
 
+	/**
+	 * Compact outcome codes. Each one renders the same English sentence that used to be stored with every row.
+	 */
+	public enum Outcome {
+		SCHEDULE_APPLIED,
+		SCHEDULE_ALREADY_SET,
+		SCHEDULE_REJECTED,
+		SCHEDULE_ERROR,
+		SCHEDULE_DEFERRED,
+		RECONCILIATION_CORRECTED,
+		RECONCILIATION_REJECTED,
+		RECONCILIATION_ALREADY_SET
+	}
+
+	/**
+	 * Human-readable description of the entry, rendered from {@link #outcome} and its parameters.
+	 *
+	 * @return The rendered text, or the stored text for legacy entries.
+	 */
+	public String getDetails() {
+		if (outcome == null) {
+			return details;
+		}
+		return renderOutcome() + describeRepetitions();
+	}
+
+	/**
+	 * Whether the given, not yet saved, entry repeats this one closely enough to be folded into it.
+	 *
+	 * @param next The new entry for the same schedule.
+	 * @return true if both are SKIPPED with the same outcome, type and parameters.
+	 */
+	public boolean isRepeatedBy(ScheduleExecutionHistory next) {
+		return status == ExecutionStatus.SKIPPED
+				&& next.status == ExecutionStatus.SKIPPED
+				&& outcome != null
+				&& outcome == next.outcome
+				&& executionType == next.executionType
+				&& java.util.Objects.equals(targetPercent, next.targetPercent)
+				&& java.util.Objects.equals(onPeak, next.onPeak);
+	}
+
+	private String renderOutcome() {
+		return switch (outcome) {
+			case SCHEDULE_APPLIED -> String.format("Successfully triggered '%s' action. Set backup reserve to %d%%.",
+					describeAction(), targetPercent) + describeCombined();
+			case SCHEDULE_ALREADY_SET -> String.format("Skipped '%s' action. The backup reserve is already at %d%%, so no command was sent.",
+					describeAction(), targetPercent) + describeCombined();
+			case SCHEDULE_REJECTED -> String.format("API call failed for '%s' action. The command was not accepted by the Tesla API.",
+					describeAction()) + describeCombined();
+			case SCHEDULE_ERROR -> String.format("Execution failed for '%s'. Error: %s",
+					describeAction(), errorMessage) + describeCombined();
+			case SCHEDULE_DEFERRED -> String.format("Deferred '%s' action. No Tesla API capacity was available in time, so the command was not sent and will be retried.",
+					describeAction()) + describeCombined();
+			case RECONCILIATION_CORRECTED -> Boolean.TRUE.equals(onPeak)
+					? String.format("Automatic correction for schedule '%s' during its on-peak window (%s - %s). The backup reserve was at %d%% and has been corrected to the scheduled %d%%.",
+							scheduleName, formatTime(windowStart), formatTime(windowEnd), actualPercent, targetPercent)
+					: String.format("Automatic correction during an off-peak period. The backup reserve was at %d%% and has been corrected to the scheduled %d%% (based on schedule '%s').",
+							actualPercent, targetPercent, scheduleName);
+			case RECONCILIATION_REJECTED -> String.format("Automatic correction failed for schedule '%s'. The API call to set backup reserve to %d%% was not accepted by Tesla.",
+					scheduleName, targetPercent);
+			case RECONCILIATION_ALREADY_SET -> String.format("Automatic check during an %s period for schedule '%s'. The Powerwall's backup reserve is already correctly set to %d%%. No action was needed.",
+					describePeriod(), scheduleName, targetPercent);
+		};
+	}
+
+	private String describeRepetitions() {
+		return occurrences > 1 && lastSeenAt != null
+				? String.format(" Repeated %d times, last at %s.", occurrences, lastSeenAt.truncatedTo(ChronoUnit.MINUTES))
+				: "";
+	}
+
+	private String describeAction() {
+		return Boolean.TRUE.equals(onPeak) ? "start discharging (on-peak)" : "start charging (off-peak)";
+	}
+
+	private String describePeriod() {
+		return Boolean.TRUE.equals(onPeak) ? "on-peak" : "off-peak";
+	}
+
+	private String describeCombined() {
+		return combinedCount != null && combinedCount > 0
+				? String.format(" Combined with %d other schedule(s) due on this site.", combinedCount)
+				: "";
+	}
+
+	private static String formatTime(LocalTime time) {
+		return time != null ? time.format(TIME_FORMATTER) : "N/A";
+	}
+
     // Why: JPA-safe equality based on identifier; supports Hibernate proxies and avoids mutable field comparison.
     @Override
     public final boolean equals(Object o) {
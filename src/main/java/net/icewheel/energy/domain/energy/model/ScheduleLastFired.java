@@ -0,0 +1,73 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.domain.energy.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Durable record of the most recent scheduled fire time that was dispatched for a {@link PowerwallSchedule}.
+ * <p>
+ * Why: On restart the misfire handler replays exactly the events between this instant and now, so recovery
+ * cost scales with the number of events actually missed rather than with the number of users.
+ * </p>
+ */
+@Entity
+@Table(name = "schedule_last_fired")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScheduleLastFired {
+
+	@Id
+	private UUID scheduleId;
+
+	/**
+	 * The nominal fire instant (the cron minute), not the wall-clock time the command was sent.
+	 */
+	@Column(nullable = false)
+	private Instant lastFiredAt;
+
+	public ScheduleLastFired(UUID scheduleId, Instant lastFiredAt) {
+		this.scheduleId = scheduleId;
+		this.lastFiredAt = lastFiredAt;
+	}
+
+	// Why: JPA-safe equality based on identifier; the id is assigned (the schedule's id), never generated.
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof ScheduleLastFired that)) return false;
+		return scheduleId != null && scheduleId.equals(that.scheduleId);
+	}
+
+	@Override
+	public final int hashCode() {
+		return getClass().hashCode();
+	}
+}
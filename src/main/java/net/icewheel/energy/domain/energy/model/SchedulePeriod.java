@@ -0,0 +1,160 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.domain.energy.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.shared.model.Auditable;
+import net.icewheel.energy.shared.converter.DayOfWeekSetConverter;
+
+/**
+ * Read model of a user-facing schedule period: one row per schedule group carrying both windows and percentages.
+ * <p>
+ * Why: A period is stored as two {@link PowerwallSchedule} events (START_DISCHARGE and START_CHARGE), and the
+ * listing and reconciliation paths only need the combined view. Keeping that view as a row, written in the same
+ * transaction as the events, saves regrouping the events in memory on every read.
+ * </p>
+ */
+@Entity
+@Table(name = "schedule_periods")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SchedulePeriod extends Auditable {
+
+	/**
+	 * The {@link PowerwallSchedule#getScheduleGroupId() schedule group id} of the two events.
+	 */
+	@Id
+	private UUID scheduleGroupId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(nullable = false)
+	private String name;
+
+	private String description;
+
+	@Column(nullable = false)
+	private String energySiteId;
+
+	@Convert(converter = DayOfWeekSetConverter.class)
+	@Column(name = "days_of_week", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+	private Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+
+	@Column(nullable = false)
+	private ZoneId timeZone;
+
+	@Column(nullable = false)
+	private boolean enabled;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private ReconciliationMode reconciliationMode = ReconciliationMode.CONTINUOUS;
+
+	/**
+	 * Start of the on-peak window, the scheduled time of the START_DISCHARGE event.
+	 */
+	@Column(nullable = false)
+	private LocalTime startTime;
+
+	/**
+	 * Start of the off-peak window, the scheduled time of the START_CHARGE event.
+	 */
+	@Column(nullable = false)
+	private LocalTime endTime;
+
+	@Column(nullable = false)
+	private int onPeakBackupPercent;
+
+	@Column(nullable = false)
+	private int offPeakBackupPercent;
+
+	/**
+	 * Creates the read model row for a newly created pair of events.
+	 */
+	public static SchedulePeriod of(PowerwallSchedule startDischarge, PowerwallSchedule startCharge) {
+		SchedulePeriod period = new SchedulePeriod();
+		period.setScheduleGroupId(startDischarge.getScheduleGroupId());
+		period.setUser(startDischarge.getUser());
+		period.apply(startDischarge, startCharge);
+		return period;
+	}
+
+	/**
+	 * Copies the current state of the two events into this row.
+	 *
+	 * @param startDischarge The START_DISCHARGE event, which holds the on-peak settings.
+	 * @param startCharge The START_CHARGE event, which holds the off-peak settings.
+	 */
+	public void apply(PowerwallSchedule startDischarge, PowerwallSchedule startCharge) {
+		setName(startDischarge.getName());
+		setDescription(startDischarge.getDescription());
+		setEnergySiteId(startDischarge.getEnergySiteId());
+		setDaysOfWeek(startDischarge.getDaysOfWeek());
+		setTimeZone(startDischarge.getTimeZone());
+		setEnabled(startDischarge.isEnabled());
+		setReconciliationMode(startDischarge.getReconciliationMode());
+		setStartTime(startDischarge.getScheduledTime());
+		setEndTime(startCharge.getScheduledTime());
+		setOnPeakBackupPercent(startDischarge.getBackupPercent());
+		setOffPeakBackupPercent(startCharge.getBackupPercent());
+	}
+
+	public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) {
+		this.daysOfWeek = daysOfWeek == null || daysOfWeek.isEmpty()
+				? EnumSet.noneOf(DayOfWeek.class)
+				: EnumSet.copyOf(daysOfWeek);
+	}
+
+	// Why: JPA-safe equality based on identifier; the id is assigned (the schedule group id), never generated.
+	@Override
+	public final boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof SchedulePeriod that)) return false;
+		return scheduleGroupId != null && scheduleGroupId.equals(that.getScheduleGroupId());
+	}
+
+	@Override
+	public final int hashCode() {
+		return getClass().hashCode();
+	}
+}
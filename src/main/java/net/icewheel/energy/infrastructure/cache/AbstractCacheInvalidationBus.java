@@ -0,0 +1,151 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.CacheInvalidationConfig;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Shared plumbing of the {@link CacheInvalidationBus} implementations: the instance identity, listener dispatch and a
+ * receiver loop on a dedicated virtual thread that runs while the bus is enabled.
+ */
+@Slf4j
+abstract class AbstractCacheInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+	private static final char SEPARATOR = '\t';
+
+	protected final CacheInvalidationConfig config;
+
+	/**
+	 * Identifies this instance in published events, so it can skip its own.
+	 */
+	protected final String origin = UUID.randomUUID().toString();
+
+	private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+	private volatile Thread receiver;
+
+	protected AbstractCacheInvalidationBus(CacheInvalidationConfig config) {
+		this.config = config;
+	}
+
+	@Override
+	public final void publish(String region, Object key) {
+		if (config.isEnabled()) {
+			send(region, key == null ? null : key.toString());
+		}
+	}
+
+	@Override
+	public final void subscribe(Consumer<CacheInvalidation> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Writes the event through the caller's transaction.
+	 */
+	protected abstract void send(String region, String key);
+
+	/**
+	 * Receives events until the thread is interrupted, passing each to {@link #dispatch}.
+	 */
+	protected abstract void receive() throws InterruptedException;
+
+	protected void dispatch(String eventOrigin, String region, String key) {
+		if (origin.equals(eventOrigin)) {
+			return;
+		}
+		CacheInvalidation invalidation = new CacheInvalidation(region, key == null || key.isEmpty() ? null : key);
+		for (Consumer<CacheInvalidation> listener : listeners) {
+			try {
+				listener.accept(invalidation);
+			}
+			catch (RuntimeException e) {
+				log.warn("Cache invalidation listener failed for {}: {}", invalidation, e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Drops every region. Why: Called when events may have been missed (e.g. after a reconnect), where the only
+	 * safe assumption is that anything cached could be stale.
+	 */
+	protected void dispatchResync() {
+		for (String region : CacheRegions.DATA_REGIONS) {
+			dispatch(null, region, null);
+		}
+	}
+
+	protected String encode(String region, String key) {
+		return origin + SEPARATOR + region + SEPARATOR + (key == null ? "" : key);
+	}
+
+	protected void dispatchEncoded(String payload) {
+		String[] parts = payload.split(String.valueOf(SEPARATOR), 3);
+		if (parts.length < 2) {
+			log.warn("Ignoring malformed cache invalidation payload '{}'", payload);
+			return;
+		}
+		dispatch(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+	}
+
+	@Override
+	public void start() {
+		if (!config.isEnabled() || receiver != null) {
+			return;
+		}
+		// Why: Assigned before starting, as the loop checks the field to decide whether it should keep running.
+		receiver = Thread.ofVirtual().name("cache-invalidation").unstarted(() -> {
+			try {
+				receive();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		receiver.start();
+		log.info("Cache invalidation bus started ({}).", getClass().getSimpleName());
+	}
+
+	@Override
+	public void stop() {
+		Thread thread = receiver;
+		receiver = null;
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return receiver != null;
+	}
+
+	protected boolean isStopping() {
+		return receiver == null || Thread.currentThread().isInterrupted();
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+/**
+ * A change to cached data made by one instance, to be dropped from the caches of the others.
+ *
+ * @param region The cache region that holds the changed data (see {@link CacheRegions}).
+ * @param key The identifier of the changed entry, or {@code null} when the whole region is stale.
+ */
+public record CacheInvalidation(String region, String key) {
+
+	/**
+	 * @return Whether the whole region must be dropped rather than a single entry.
+	 */
+	public boolean isWholeRegion() {
+		return key == null;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations between the instances sharing a database, using only that database.
+ * <p>
+ * Publishing joins the caller's transaction, so other instances only hear about a change once it has committed,
+ * and never about one that rolled back. Instances ignore their own events: their local caches are kept current
+ * by the write itself.
+ * </p>
+ */
+public interface CacheInvalidationBus {
+
+	/**
+	 * Announces that the entry {@code key} of {@code region} changed.
+	 *
+	 * @param region The cache region (see {@link CacheRegions}).
+	 * @param key The identifier of the changed entry, or {@code null} to drop the whole region.
+	 */
+	void publish(String region, Object key);
+
+	/**
+	 * Registers a listener for invalidations published by other instances. Listeners run on the bus's own thread
+	 * and must not block.
+	 */
+	void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,51 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.util.List;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Names of the Hibernate second-level cache regions, which are also the topics of the {@link CacheInvalidationBus}.
+ */
+public final class CacheRegions {
+
+	public static final String USERS = "users";
+	public static final String POWERWALL_SCHEDULES = "powerwall-schedules";
+	public static final String KEYPAIRS = "keypairs";
+	public static final String QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+	public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+	/**
+	 * Tesla tokens are not held in a Hibernate region; changes are still announced on the
+	 * {@link CacheInvalidationBus} for in-process token caches.
+	 */
+	public static final String TOKENS = "tokens";
+
+	/**
+	 * Regions whose entries expire and are bounded in size. The update timestamps region is not among them: it holds
+	 * one entry per table and must never drop one while query results that depend on it are still cached.
+	 */
+	public static final List<String> DATA_REGIONS = List.of(USERS, POWERWALL_SCHEDULES, KEYPAIRS, QUERY_RESULTS);
+
+	private CacheRegions() {
+	}
+}
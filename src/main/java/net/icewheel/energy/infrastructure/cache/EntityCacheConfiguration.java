@@ -0,0 +1,78 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import net.icewheel.energy.config.EntityCacheConfig;
+import org.hibernate.cache.jcache.ConfigSettings;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Backs the Hibernate second-level cache with Caffeine through JCache.
+ * <p>
+ * Users are loaded on nearly every request, the executor re-reads enabled schedules every minute and the keypair
+ * never changes, so these entities and the queries that load them are cached in-process. Hibernate evicts an entry
+ * when it writes the row (including bulk JPQL statements), and query results are dropped whenever a table they read
+ * from is written. Other instances of a multi-node deployment are told through the {@link CacheInvalidationBus};
+ * entries also expire after {@code app.entity-cache.time-to-live}, which bounds staleness should an event be missed.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class EntityCacheConfiguration {
+
+	// Why: Closed by the context after the entity manager factory, which depends on it; closing twice is a no-op.
+	@Bean
+	public CacheManager entityCacheManager(EntityCacheConfig config) {
+		// Why: A provider instance of our own, rather than the JVM-wide one from Caching, gives each application
+		// context its own cache manager. Contexts on different databases (as in tests) must never share entries.
+		CachingProvider provider = new CaffeineCachingProvider();
+		CacheManager cacheManager = provider.getCacheManager();
+		for (String region : CacheRegions.DATA_REGIONS) {
+			cacheManager.createCache(region, regionConfiguration(config));
+		}
+		cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+		return properties -> {
+			properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+			// Why: Every region is created above with explicit limits; a region missing from that list is a bug.
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+		};
+	}
+
+	private static CaffeineConfiguration<Object, Object> regionConfiguration(EntityCacheConfig config) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(config.getMaximumSize()));
+		configuration.setExpireAfterWrite(OptionalLong.of(config.getTimeToLive().toNanos()));
+		return configuration;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.infrastructure.vendors.tesla.auth.domain.Keypair;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies invalidations from other instances to this instance's Hibernate second-level cache.
+ */
+@Component
+@Slf4j
+public class EntityCacheInvalidator {
+
+	private static final Map<String, Class<?>> ENTITIES = Map.of(
+			CacheRegions.USERS, User.class,
+			CacheRegions.POWERWALL_SCHEDULES, PowerwallSchedule.class,
+			CacheRegions.KEYPAIRS, Keypair.class);
+
+	private final Cache cache;
+
+	public EntityCacheInvalidator(CacheInvalidationBus invalidationBus, EntityManagerFactory entityManagerFactory) {
+		this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		invalidationBus.subscribe(this::evict);
+	}
+
+	void evict(CacheInvalidation invalidation) {
+		if (CacheRegions.QUERY_RESULTS.equals(invalidation.region())) {
+			cache.evictDefaultQueryRegion();
+			return;
+		}
+		Class<?> entity = ENTITIES.get(invalidation.region());
+		if (entity == null) {
+			return;
+		}
+		if (invalidation.isWholeRegion()) {
+			cache.evictEntityData(entity);
+		}
+		else {
+			cache.evictEntityData(entity, entity == PowerwallSchedule.class ? UUID.fromString(invalidation.key()) : invalidation.key());
+		}
+		// Why: Cached query results are only invalidated by local writes to their tables; a write on another
+		// instance never reaches this instance's update timestamps, so dependent results are dropped here.
+		cache.evictDefaultQueryRegion();
+		log.debug("Evicted {} after a change on another instance.", invalidation);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes hits, misses and the hit ratio of each second-level cache region, tagged with the region name, so they
+ * can be read from {@code /actuator/metrics/icewheel.entity-cache.hit-ratio?tag=region:users}.
+ */
+@Component
+public class EntityCacheMetrics implements MeterBinder {
+
+	private final Statistics statistics;
+
+	public EntityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (String region : CacheRegions.DATA_REGIONS) {
+			FunctionCounter.builder("icewheel.entity-cache.requests", statistics, s -> hits(s, region))
+					.description("Second-level cache lookups")
+					.tag("region", region)
+					.tag("result", "hit")
+					.register(registry);
+			FunctionCounter.builder("icewheel.entity-cache.requests", statistics, s -> misses(s, region))
+					.description("Second-level cache lookups")
+					.tag("region", region)
+					.tag("result", "miss")
+					.register(registry);
+			Gauge.builder("icewheel.entity-cache.hit-ratio", statistics, s -> hitRatio(s, region))
+					.description("Share of second-level cache lookups served from the cache since startup")
+					.tag("region", region)
+					.register(registry);
+		}
+	}
+
+	private static double hits(Statistics statistics, String region) {
+		CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+		return regionStatistics == null ? 0 : regionStatistics.getHitCount();
+	}
+
+	private static double misses(Statistics statistics, String region) {
+		CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+		return regionStatistics == null ? 0 : regionStatistics.getMissCount();
+	}
+
+	private static double hitRatio(Statistics statistics, String region) {
+		double hits = hits(statistics, region);
+		double lookups = hits + misses(statistics, region);
+		return lookups == 0 ? 0 : hits / lookups;
+	}
+}
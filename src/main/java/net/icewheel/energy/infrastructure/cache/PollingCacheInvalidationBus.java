@@ -0,0 +1,96 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.CacheInvalidationConfig;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache invalidation for databases without {@code LISTEN}/{@code NOTIFY} (H2): events are rows in
+ * {@code cache_invalidation_events}, inserted in the publishing transaction and polled by every instance.
+ * <p>
+ * Why: Polling by increasing id every {@code app.cache-invalidation.poll-interval} keeps instances within a few
+ * hundred milliseconds of each other without any shared service besides the database. A transaction that commits
+ * after a later-numbered one can be skipped by a poll; the region time-to-live bounds that rare case.
+ * </p>
+ */
+@Component
+@Profile("!postgres")
+@Slf4j
+public class PollingCacheInvalidationBus extends AbstractCacheInvalidationBus {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Clock clock;
+
+	public PollingCacheInvalidationBus(CacheInvalidationConfig config, JdbcTemplate jdbcTemplate, Clock clock) {
+		super(config);
+		this.jdbcTemplate = jdbcTemplate;
+		this.clock = clock;
+	}
+
+	@Override
+	protected void send(String region, String key) {
+		jdbcTemplate.update("INSERT INTO cache_invalidation_events (region, entity_key, origin, created_at) VALUES (?, ?, ?, ?)",
+				region, key, origin, Timestamp.from(clock.instant()));
+	}
+
+	@Override
+	protected void receive() throws InterruptedException {
+		Long lastId = null;
+		Instant nextCleanup = clock.instant();
+		while (!isStopping()) {
+			try {
+				if (lastId == null) {
+					// Only events published after this instance started are relevant; its caches start empty.
+					lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_events", Long.class);
+				}
+				lastId = poll(lastId);
+				if (!clock.instant().isBefore(nextCleanup)) {
+					jdbcTemplate.update("DELETE FROM cache_invalidation_events WHERE created_at < ?",
+							Timestamp.from(clock.instant().minus(config.getEventRetention())));
+					nextCleanup = clock.instant().plus(config.getEventRetention());
+				}
+			}
+			catch (DataAccessException e) {
+				log.warn("Could not poll cache invalidation events: {}", e.getMessage());
+			}
+			Thread.sleep(config.getPollInterval());
+		}
+	}
+
+	private long poll(long afterId) {
+		long[] lastId = {afterId};
+		jdbcTemplate.query("SELECT id, origin, region, entity_key FROM cache_invalidation_events WHERE id > ? ORDER BY id",
+				rs -> {
+					lastId[0] = rs.getLong("id");
+					dispatch(rs.getString("origin"), rs.getString("region"), rs.getString("entity_key"));
+				}, afterId);
+		return lastId[0];
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.CacheInvalidationConfig;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache invalidation over PostgreSQL {@code LISTEN}/{@code NOTIFY}.
+ * <p>
+ * {@code pg_notify} is transactional: the server delivers the notification to every listening session when the
+ * publishing transaction commits, and drops it on rollback. Each instance listens on one dedicated connection opened
+ * outside the pool, so a pooled connection is never parked on the listener.
+ * </p>
+ */
+@Component
+@Profile("postgres")
+@Slf4j
+public class PostgresCacheInvalidationBus extends AbstractCacheInvalidationBus {
+
+	static final String CHANNEL = "icewheel_cache_invalidation";
+
+	// Why: Bounds how long the receiver blocks in one wait, so a stop request is noticed promptly.
+	private static final int WAIT_MILLIS = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcConnectionDetails connectionDetails;
+
+	public PostgresCacheInvalidationBus(CacheInvalidationConfig config, JdbcTemplate jdbcTemplate, JdbcConnectionDetails connectionDetails) {
+		super(config);
+		this.jdbcTemplate = jdbcTemplate;
+		this.connectionDetails = connectionDetails;
+	}
+
+	@Override
+	protected void send(String region, String key) {
+		jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, encode(region, key));
+	}
+
+	@Override
+	protected void receive() throws InterruptedException {
+		boolean reconnecting = false;
+		while (!isStopping()) {
+			try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+					connectionDetails.getUsername(), connectionDetails.getPassword())) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				if (reconnecting) {
+					// Why: Notifications sent while this instance was not listening are lost for good.
+					dispatchResync();
+				}
+				reconnecting = true;
+				PGConnection listener = connection.unwrap(PGConnection.class);
+				while (!isStopping()) {
+					PGNotification[] notifications = listener.getNotifications(WAIT_MILLIS);
+					if (notifications != null) {
+						for (PGNotification notification : notifications) {
+							dispatchEncoded(notification.getParameter());
+						}
+					}
+				}
+			}
+			catch (SQLException e) {
+				if (isStopping()) {
+					return;
+				}
+				log.warn("Cache invalidation listener lost its connection; reconnecting in {}: {}", config.getReconnectDelay(), e.getMessage());
+				Thread.sleep(config.getReconnectDelay());
+			}
+		}
+	}
+}
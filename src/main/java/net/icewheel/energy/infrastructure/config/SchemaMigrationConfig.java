@@ -0,0 +1,62 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.infrastructure.retention.PostgresPartitionedHistoryRetention;
+import org.flywaydb.core.Flyway;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Runs the versioned migrations in {@code db/migration/{vendor}} after Hibernate's schema update.
+ * <p>
+ * Why: Hibernate's {@code ddl-auto: update} still creates tables and columns from the entities, while the migrations
+ * own everything it cannot express: the index set and vendor-specific column types. Spring Boot would normally migrate
+ * before Hibernate starts, when the tables do not exist yet on a fresh database, so the migration is deferred here.
+ * </p>
+ */
+@Configuration
+@Slf4j
+public class SchemaMigrationConfig {
+
+	@Bean
+	public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+		return flyway -> log.debug("Deferring schema migrations until Hibernate has updated the schema.");
+	}
+
+	@Bean
+	@DependsOn("entityManagerFactory")
+	public InitializingBean schemaMigrator(Flyway flyway,
+			ObjectProvider<PostgresPartitionedHistoryRetention> historyPartitioning) {
+		return () -> {
+			// Why: Converting history into a partitioned table recreates it, so its indexes must be created afterwards.
+			// The conversion runs at most once; calling it here makes that ordering explicit.
+			historyPartitioning.ifAvailable(PostgresPartitionedHistoryRetention::partitionHistoryTable);
+			log.info("Applying schema migrations.");
+			flyway.migrate();
+		};
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A {@link DataSource} that admits callers through a fair semaphore before they reach the connection pool.
+ * <p>
+ * Why: With virtual threads enabled, thousands of request and scheduler threads can ask for a connection at once.
+ * Queuing them here, in FIFO order and sized to the pool, keeps the pool itself uncontended and makes the
+ * time spent waiting for database capacity visible as a metric. A permit is held from {@code getConnection()}
+ * until the returned connection is closed.
+ * </p>
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource implements MeterBinder {
+
+	private final Semaphore permits;
+	private final int maxConcurrent;
+	private final Duration acquireTimeout;
+
+	private volatile Timer acquireTimer;
+
+	public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+		super(targetDataSource);
+		this.maxConcurrent = maxConcurrent;
+		this.acquireTimeout = acquireTimeout;
+		this.permits = new Semaphore(maxConcurrent, true);
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquirePermit();
+		try {
+			return releasingPermitOnClose(obtainTargetDataSource().getConnection());
+		}
+		catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquirePermit();
+		try {
+			return releasingPermitOnClose(obtainTargetDataSource().getConnection(username, password));
+		}
+		catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		acquireTimer = Timer.builder("icewheel.datasource.permit.wait")
+				.description("Time spent waiting for a database concurrency permit")
+				.publishPercentileHistogram()
+				.register(registry);
+		Gauge.builder("icewheel.datasource.permit.waiting", permits, Semaphore::getQueueLength)
+				.description("Threads currently waiting for a database concurrency permit")
+				.register(registry);
+		Gauge.builder("icewheel.datasource.permit.available", permits, Semaphore::availablePermits)
+				.description("Database concurrency permits currently available")
+				.register(registry);
+	}
+
+	private void acquirePermit() throws SQLException {
+		long start = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a database concurrency permit.", e);
+		}
+		finally {
+			Timer timer = acquireTimer;
+			if (timer != null) {
+				timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+		if (!acquired) {
+			throw new SQLTransientConnectionException("Timed out after " + acquireTimeout.toMillis()
+					+ "ms waiting for one of " + maxConcurrent + " database concurrency permits.");
+		}
+	}
+
+	/**
+	 * Wraps a pooled connection so that closing it (at most once) also returns the caller's permit.
+	 */
+	private Connection releasingPermitOnClose(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection) Proxy.newProxyInstance(ConcurrencyLimitingDataSource.class.getClassLoader(),
+				new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+					boolean isClose = "close".equals(method.getName()) && method.getParameterCount() == 0;
+					try {
+						return method.invoke(connection, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+					finally {
+						if (isClose && released.compareAndSet(false, true)) {
+							permits.release();
+						}
+					}
+				});
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.DatabaseConcurrencyConfig;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Wraps the application's connection pool in a {@link ConcurrencyLimitingDataSource}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j
+public class DataSourceConcurrencyConfig {
+
+	/**
+	 * Position of the limiter among the data source post-processors; it must see the pool itself.
+	 */
+	static final int ORDER = 0;
+
+	/**
+	 * Why: A post-processor keeps Spring Boot's own {@code DataSource} auto-configuration (and its Hikari metrics,
+	 * which unwrap delegating data sources) intact. It is static and binds its settings directly from the
+	 * environment because post-processors are created before regular beans.
+	 */
+	@Bean
+	public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+		DatabaseConcurrencyConfig config = Binder.get(environment)
+				.bind(DatabaseConcurrencyConfig.PREFIX, DatabaseConcurrencyConfig.class)
+				.orElseGet(DatabaseConcurrencyConfig::new);
+		return new OrderedBeanPostProcessor(ORDER) {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!config.isEnabled() || !(bean instanceof HikariDataSource hikari)) {
+					return bean;
+				}
+				int maxConcurrent = config.getMaxConcurrent() > 0 ? config.getMaxConcurrent() : hikari.getMaximumPoolSize();
+				log.info("Limiting data source '{}' to {} concurrent connections.", beanName, maxConcurrent);
+				return new ConcurrencyLimitingDataSource(hikari, maxConcurrent, config.getAcquireTimeout());
+			}
+		};
+	}
+}
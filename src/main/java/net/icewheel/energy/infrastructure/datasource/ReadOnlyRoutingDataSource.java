@@ -0,0 +1,64 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * The application's {@link DataSource} when read replicas are configured: read-only transactions get their
+ * connection from the {@link ReplicaDataSource}, everything else from the primary.
+ * <p>
+ * Why: The transaction manager marks a connection read-only right after asking for it, before any statement runs.
+ * Fetching the physical connection lazily lets the read-only flag decide which database it comes from, so
+ * {@code @Transactional(readOnly = true)} is all a caller needs.
+ * </p>
+ */
+public class ReadOnlyRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder, AutoCloseable {
+
+	private final ReplicaDataSource replicas;
+
+	public ReadOnlyRoutingDataSource(DataSource primary, ReplicaDataSource replicas) {
+		super(primary);
+		setReadOnlyDataSource(replicas);
+		this.replicas = replicas;
+	}
+
+	/**
+	 * Binds the replica metrics, and the primary's own (e.g. concurrency permits) since the primary is no longer the
+	 * bean the registry discovers.
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (obtainTargetDataSource() instanceof MeterBinder primaryMetrics) {
+			primaryMetrics.bindTo(registry);
+		}
+		replicas.bindTo(registry);
+	}
+
+	@Override
+	public void close() {
+		replicas.close();
+	}
+}
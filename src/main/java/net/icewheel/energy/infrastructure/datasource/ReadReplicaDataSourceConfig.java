@@ -0,0 +1,104 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.ReadReplicaConfig;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Routes read-only transactions to the read replicas in {@code app.read-replicas.urls}.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("postgres")
+@Slf4j
+public class ReadReplicaDataSourceConfig {
+
+	/**
+	 * Why: Like the concurrency limiter, a post-processor leaves Spring Boot's {@code DataSource} auto-configuration
+	 * in place. It runs after the limiter, so writes and read-only fallbacks still queue for the primary's permits.
+	 */
+	@Bean
+	public static BeanPostProcessor readReplicaRouter(Environment environment) {
+		ReadReplicaConfig config = Binder.get(environment)
+				.bind(ReadReplicaConfig.PREFIX, ReadReplicaConfig.class)
+				.orElseGet(ReadReplicaConfig::new);
+		return new OrderedBeanPostProcessor(DataSourceConcurrencyConfig.ORDER + 1) {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!config.isEnabled() || config.getUrls().isEmpty() || !"dataSource".equals(beanName)
+						|| !(bean instanceof DataSource primary)) {
+					return bean;
+				}
+				ReplicaDataSource replicas = new ReplicaDataSource(primary, createReplicaPools(config, primary), config.getMaxLag());
+				replicas.startLagChecks(config.getLagCheckInterval());
+				log.info("Routing read-only transactions to {} read replica(s), falling back to the primary beyond {} of lag.",
+						config.getUrls().size(), config.getMaxLag());
+				return new ReadOnlyRoutingDataSource(primary, replicas);
+			}
+		};
+	}
+
+	private static List<ReplicaDataSource.Replica> createReplicaPools(ReadReplicaConfig config, DataSource primary) {
+		HikariDataSource primaryPool = unwrapPool(primary);
+		List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+		for (int i = 0; i < config.getUrls().size(); i++) {
+			String name = "replica-" + (i + 1);
+			HikariDataSource pool = new HikariDataSource();
+			pool.setPoolName(name);
+			pool.setJdbcUrl(config.getUrls().get(i));
+			pool.setUsername(StringUtils.hasText(config.getUsername()) ? config.getUsername() : primaryPool.getUsername());
+			pool.setPassword(StringUtils.hasText(config.getPassword()) ? config.getPassword() : primaryPool.getPassword());
+			if (StringUtils.hasText(primaryPool.getDriverClassName())) {
+				pool.setDriverClassName(primaryPool.getDriverClassName());
+			}
+			pool.setMaximumPoolSize(config.getMaximumPoolSize());
+			pool.setReadOnly(true);
+			// Why: A replica that is down at startup must not stop the application; it joins once a lag check succeeds.
+			pool.setInitializationFailTimeout(-1);
+			replicas.add(new ReplicaDataSource.Replica(name, pool));
+		}
+		return replicas;
+	}
+
+	private static HikariDataSource unwrapPool(DataSource dataSource) {
+		try {
+			return dataSource.unwrap(HikariDataSource.class);
+		}
+		catch (SQLException e) {
+			throw new BeanCreationException("dataSource", "Read replicas need the primary to be a Hikari connection pool.", e);
+		}
+	}
+}
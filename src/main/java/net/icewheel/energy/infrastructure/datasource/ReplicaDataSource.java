@@ -0,0 +1,217 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Hands out connections to PostgreSQL read replicas in turn, skipping any replica that has fallen more than
+ * {@code maxLag} behind or cannot be reached; when none is usable the connection comes from the primary.
+ * <p>
+ * Why: A replica only sees a write once it has been replayed there, so a read routed to it can miss the caller's
+ * most recent changes. Bounding the lag bounds that staleness, and falling back to the primary keeps reads working
+ * while a replica catches up or is down. Until its lag has been measured once, a replica is not used.
+ * </p>
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+	static final String PRIMARY_ROUTE = "primary";
+
+	/**
+	 * Why: When the replica has replayed everything it received, the primary is simply idle and the time since the
+	 * last replayed transaction says nothing about lag.
+	 */
+	private static final String LAG_QUERY = """
+			SELECT CASE
+			         WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			         ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+			       END""";
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final Duration maxLag;
+	private final AtomicInteger next = new AtomicInteger();
+	private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+	private volatile MeterRegistry registry;
+	private ScheduledExecutorService lagChecker;
+
+	public ReplicaDataSource(DataSource primary, List<Replica> replicas, Duration maxLag) {
+		this.primary = primary;
+		this.replicas = List.copyOf(replicas);
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * Measures the lag of every replica now and then every {@code interval}, on a background thread.
+	 */
+	public void startLagChecks(Duration interval) {
+		lagChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("replica-lag-check").factory());
+		lagChecker.scheduleWithFixedDelay(this::checkLag, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.usable) {
+				continue;
+			}
+			try {
+				Connection connection = replica.dataSource.getConnection();
+				countRoute(replica.name);
+				return connection;
+			}
+			catch (SQLException e) {
+				// Why: Stays out of rotation until the next lag check reaches it again.
+				replica.usable = false;
+				log.warn("Read replica '{}' is unavailable, reading from the next one or the primary: {}", replica.name, e.getMessage());
+			}
+		}
+		countRoute(PRIMARY_ROUTE);
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials.");
+	}
+
+	void checkLag() {
+		for (Replica replica : replicas) {
+			boolean wasUsable = replica.usable;
+			try {
+				Duration lag = measureLag(replica.dataSource);
+				replica.lagSeconds = lag.toMillis() / 1000.0;
+				replica.usable = lag.compareTo(maxLag) <= 0;
+			}
+			catch (SQLException | RuntimeException e) {
+				replica.lagSeconds = Double.NaN;
+				replica.usable = false;
+				log.debug("Could not measure the lag of read replica '{}': {}", replica.name, e.getMessage());
+			}
+			if (wasUsable != replica.usable) {
+				log.info("Read replica '{}' is now {} (lag {}s, limit {}s).", replica.name, replica.usable ? "in rotation" : "out of rotation",
+						replica.lagSeconds, maxLag.toSeconds());
+			}
+		}
+	}
+
+	Duration measureLag(DataSource replica) throws SQLException {
+		try (Connection connection = replica.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+			rs.next();
+			return Duration.ofMillis(Math.round(rs.getDouble(1) * 1000));
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.registry = registry;
+		for (Replica replica : replicas) {
+			Gauge.builder("icewheel.datasource.replica.lag", replica, r -> r.lagSeconds)
+					.description("Replication lag of a read replica, as last measured")
+					.baseUnit("seconds")
+					.tag("replica", replica.name)
+					.register(registry);
+			Gauge.builder("icewheel.datasource.replica.usable", replica, r -> r.usable ? 1 : 0)
+					.description("Whether a read replica currently serves read-only transactions")
+					.tag("replica", replica.name)
+					.register(registry);
+			// Why: The replica pools are not beans, so Spring Boot's pool metrics do not cover them.
+			if (replica.dataSource instanceof HikariDataSource hikari && hikari.getMetricRegistry() == null
+					&& hikari.getMetricsTrackerFactory() == null) {
+				hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		if (lagChecker != null) {
+			lagChecker.shutdownNow();
+		}
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				}
+				catch (Exception e) {
+					log.warn("Could not close read replica '{}': {}", replica.name, e.getMessage());
+				}
+			}
+		}
+	}
+
+	private void countRoute(String route) {
+		MeterRegistry meterRegistry = registry;
+		if (meterRegistry == null) {
+			return;
+		}
+		routeCounters.computeIfAbsent(route, r -> Counter.builder("icewheel.datasource.route")
+				.description("Connections handed out to read-only transactions, by the database that served them")
+				.tag("route", r)
+				.register(meterRegistry)).increment();
+	}
+
+	/**
+	 * One replica and its last known state.
+	 */
+	public static final class Replica {
+
+		private final String name;
+		private final DataSource dataSource;
+		private volatile boolean usable;
+		private volatile double lagSeconds = Double.NaN;
+
+		public Replica(String name, DataSource dataSource) {
+			this.name = name;
+			this.dataSource = dataSource;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes the {@link StartupReconciliationHealthIndicator} from the primary {@code /actuator/health} group.
+ * <p>
+ * Why: The primary group always includes every health contributor, and there is no property to exclude one.
+ * Left in, the running startup reconciliation would report the whole instance as {@code OUT_OF_SERVICE} to
+ * monitors of the main health endpoint; it should only hold back the readiness probe, which includes it by name.
+ * </p>
+ */
+@Component
+public class StartupReconciliationHealthGroups implements HealthEndpointGroupsPostProcessor {
+
+	@Override
+	public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups groups) {
+		Map<String, HealthEndpointGroup> additional = new LinkedHashMap<>();
+		for (String name : groups.getNames()) {
+			additional.put(name, groups.get(name));
+		}
+		return HealthEndpointGroups.of(new WithoutStartupReconciliation(groups.getPrimary()), additional);
+	}
+
+	private record WithoutStartupReconciliation(HealthEndpointGroup delegate) implements HealthEndpointGroup {
+
+		@Override
+		public boolean isMember(String name) {
+			return !StartupReconciliationHealthIndicator.NAME.equals(name) && delegate.isMember(name);
+		}
+
+		@Override
+		public boolean showComponents(SecurityContext securityContext) {
+			return delegate.showComponents(securityContext);
+		}
+
+		@Override
+		public boolean showDetails(SecurityContext securityContext) {
+			return delegate.showDetails(securityContext);
+		}
+
+		@Override
+		public StatusAggregator getStatusAggregator() {
+			return delegate.getStatusAggregator();
+		}
+
+		@Override
+		public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+			return delegate.getHttpCodeStatusMapper();
+		}
+
+		@Override
+		public AdditionalHealthEndpointPath getAdditionalPath() {
+			return delegate.getAdditionalPath();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import net.icewheel.energy.application.scheduling.StartupReconciliationProgress;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code OUT_OF_SERVICE} until the startup reconciliation has finished.
+ * <p>
+ * Why: This indicator is part of the readiness group only (see {@link StartupReconciliationHealthGroups}), so the
+ * instance is alive (and serving its own probes) immediately, while load balancers hold traffic back until Powerwall state has been brought in line with the
+ * schedules. A failed run still reports UP; the periodic reconciliation will heal what it missed.
+ * </p>
+ */
+@Component(StartupReconciliationHealthIndicator.NAME)
+@RequiredArgsConstructor
+public class StartupReconciliationHealthIndicator implements HealthIndicator {
+
+	public static final String NAME = "startupReconciliation";
+
+	private final StartupReconciliationProgress progress;
+
+	@Override
+	public Health health() {
+		Health.Builder builder = progress.isFinished() ? Health.up() : Health.outOfService();
+		builder.withDetail("state", progress.getState());
+		if (progress.getPhase() != null) {
+			builder.withDetail("phase", progress.getPhase());
+		}
+		builder.withDetail("total", progress.getTotal())
+				.withDetail("processed", progress.getProcessed())
+				.withDetail("failed", progress.getFailed());
+		if (progress.getStartedAt() != null) {
+			builder.withDetail("startedAt", progress.getStartedAt());
+		}
+		if (progress.getFinishedAt() != null) {
+			builder.withDetail("finishedAt", progress.getFinishedAt());
+		}
+		if (progress.getError() != null) {
+			builder.withDetail("error", progress.getError());
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.DatabaseConcurrencyConfig;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events and reports them as log warnings and metrics.
+ * <p>
+ * Why: A virtual thread that blocks while pinned to its carrier (inside a native frame, or a {@code synchronized}
+ * block on JDKs before 24) holds that carrier hostage, so a handful of pinned database or HTTP calls can stall the
+ * whole scheduler. Surfacing the offending stack makes those call sites easy to find.
+ * </p>
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final DatabaseConcurrencyConfig config;
+	private final Counter pinnedCounter;
+	private final Timer pinnedTimer;
+
+	private volatile RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(DatabaseConcurrencyConfig config, MeterRegistry meterRegistry) {
+		this.config = config;
+		this.pinnedCounter = Counter.builder("icewheel.virtual-threads.pinned")
+				.description("Virtual thread pinning events longer than the configured threshold")
+				.register(meterRegistry);
+		this.pinnedTimer = Timer.builder("icewheel.virtual-threads.pinned.duration")
+				.description("Time virtual threads spent pinned to their carrier thread")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void start() {
+		if (!config.isPinningMonitorEnabled() || stream != null) {
+			return;
+		}
+		try {
+			RecordingStream recordingStream = new RecordingStream();
+			recordingStream.enable(PINNED_EVENT).withThreshold(config.getPinningThreshold()).withStackTrace();
+			recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+			recordingStream.startAsync();
+			stream = recordingStream;
+			log.info("Virtual thread pinning monitor started (threshold {}).", config.getPinningThreshold());
+		}
+		catch (RuntimeException e) {
+			// JFR may be unavailable (e.g. disabled or unsupported runtime); the application must still start.
+			log.warn("Could not start the virtual thread pinning monitor: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void stop() {
+		RecordingStream recordingStream = stream;
+		stream = null;
+		if (recordingStream != null) {
+			recordingStream.close();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	void onPinned(RecordedEvent event) {
+		Duration duration = event.getDuration();
+		pinnedCounter.increment();
+		pinnedTimer.record(duration);
+		String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+		log.warn("Virtual thread '{}' was pinned to its carrier for {} ms at:\n{}", thread, duration.toMillis(), describeStack(event));
+	}
+
+	private String describeStack(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return "\t(no stack trace)";
+		}
+		List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		return frames.stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+						+ "(line " + frame.getLineNumber() + ")")
+				.collect(Collectors.joining("\n"));
+	}
+}
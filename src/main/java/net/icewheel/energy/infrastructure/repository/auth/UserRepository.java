@@ -21,11 +21,16 @@ package net.icewheel.energy.infrastructure.repository.auth;
 
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
 import net.icewheel.energy.domain.auth.model.User;
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserRepository extends JpaRepository<User, String> {
 
+	// Why: Runs on every login; the result is cached with the User entity and dropped whenever the users table is written.
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<User> findByEmail(String email);
 }
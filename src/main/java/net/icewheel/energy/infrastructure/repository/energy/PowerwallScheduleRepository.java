@@ -19,15 +19,22 @@
 
 package net.icewheel.energy.infrastructure.repository.energy;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import net.icewheel.energy.domain.auth.model.User;
+import jakarta.persistence.QueryHint;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PowerwallScheduleRepository extends JpaRepository<PowerwallSchedule, UUID> {
@@ -37,9 +44,36 @@ public interface PowerwallScheduleRepository extends JpaRepository<PowerwallSche
     /**
      * Finds all enabled schedules and eagerly fetches the associated User to prevent N+1 query issues.
      * This is the preferred method for the scheduler to use.
+     * The result is held in the query cache, so the per-minute tick is served from memory until a schedule or user
+     * is written.
      */
     @Query("SELECT s FROM PowerwallSchedule s JOIN FETCH s.user WHERE s.enabled = true")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<PowerwallSchedule> findAllEnabledWithUser();
 
     List<PowerwallSchedule> findAllByScheduleGroupId(UUID scheduleGroupId);
+
+	/**
+	 * Deletes every event of a schedule group in one statement; their last-fired entries follow through
+	 * {@code ON DELETE CASCADE}.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM PowerwallSchedule s WHERE s.scheduleGroupId = :scheduleGroupId")
+	int deleteAllByScheduleGroupId(@Param("scheduleGroupId") UUID scheduleGroupId);
+
+	/**
+	 * Ids of a user's enabled schedules, without loading the entities.
+	 */
+	@Query("SELECT s.id FROM PowerwallSchedule s WHERE s.user.id = :userId AND s.enabled = true")
+	List<UUID> findEnabledIdsByUserId(@Param("userId") String userId);
+
+	/**
+	 * Disables all of a user's enabled schedules in one statement.
+	 * Why: Bulk updates skip the auditing listener, so the modification time is set here.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE PowerwallSchedule s SET s.enabled = false, s.updatedAt = :now WHERE s.user.id = :userId AND s.enabled = true")
+	int disableAllByUserId(@Param("userId") String userId, @Param("now") Instant now);
 }
\ No newline at end of file
@@ -19,19 +19,41 @@
 
 package net.icewheel.energy.infrastructure.repository.energy;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ScheduleAuditEventRepository extends JpaRepository<ScheduleAuditEvent, UUID> {
 
-	Page<ScheduleAuditEvent> findByUser(User user, Pageable pageable);
+	/**
+	 * First page of a user's audit events, newest first. Pass an unsorted {@link Pageable} with page 0.
+	 */
+	@Query("SELECT e FROM ScheduleAuditEvent e WHERE e.user = :user ORDER BY e.timestamp DESC, e.id DESC")
+	Slice<ScheduleAuditEvent> findLatestByUser(@Param("user") User user, Pageable pageable);
+
+	/**
+	 * Page of a user's audit events that follows the given (timestamp, id) position, newest first.
+	 */
+	@Query("SELECT e FROM ScheduleAuditEvent e WHERE e.user = :user"
+			+ " AND (e.timestamp < :timestamp OR (e.timestamp = :timestamp AND e.id < :id))"
+			+ " ORDER BY e.timestamp DESC, e.id DESC")
+	Slice<ScheduleAuditEvent> findByUserBefore(@Param("user") User user, @Param("timestamp") Instant timestamp,
+			@Param("id") UUID id, Pageable pageable);
+
+	/**
+	 * Counts a user's audit events, stopping at the limit so heavy users do not cost a full count.
+	 */
+	@Query(value = "SELECT count(*) FROM (SELECT 1 FROM schedule_audit_events WHERE user_id = :userId LIMIT :limit) capped", nativeQuery = true)
+	long countByUserIdUpTo(@Param("userId") String userId, @Param("limit") int limit);
 
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.repository.energy;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import net.icewheel.energy.domain.energy.model.ScheduleExecutionClaim;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ScheduleExecutionClaimRepository extends JpaRepository<ScheduleExecutionClaim, ScheduleExecutionClaim.Key> {
+
+	/**
+	 * Claims a scheduled event if no node has claimed it yet.
+	 * Why: A single conditional insert is atomic in the database, so two nodes racing for the same event cannot
+	 * both win, and the loser does not have to handle a constraint-violation exception.
+	 *
+	 * @return 1 if this call claimed the event, 0 if it was already claimed.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO schedule_execution_claims (schedule_id, fire_time, claimed_at) "
+			+ "VALUES (:scheduleId, :fireTime, :claimedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+	int claim(@Param("scheduleId") UUID scheduleId, @Param("fireTime") Instant fireTime, @Param("claimedAt") Instant claimedAt);
+
+	/**
+	 * Gives up a claim whose command was never sent, so the event can be claimed again by a retry.
+	 *
+	 * @return 1 if the claim was released, 0 if there was none.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ScheduleExecutionClaim c WHERE c.scheduleId = :scheduleId AND c.fireTime = :fireTime")
+	int release(@Param("scheduleId") UUID scheduleId, @Param("fireTime") Instant fireTime);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ScheduleExecutionClaim c WHERE c.fireTime < :cutoff")
+	int deleteByFireTimeBefore(@Param("cutoff") Instant cutoff);
+}
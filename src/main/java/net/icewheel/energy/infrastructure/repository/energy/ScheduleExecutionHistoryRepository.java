@@ -19,17 +19,54 @@
 
 package net.icewheel.energy.infrastructure.repository.energy;
 
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ScheduleExecutionHistoryRepository extends JpaRepository<ScheduleExecutionHistory, UUID> {
 
-	Page<ScheduleExecutionHistory> findByUserId(String userId, Pageable pageable);
+	/**
+	 * First page of a user's execution history, newest first. Pass an unsorted {@link Pageable} with page 0.
+	 */
+	@Query("SELECT h FROM ScheduleExecutionHistory h WHERE h.userId = :userId ORDER BY h.executionTime DESC, h.id DESC")
+	Slice<ScheduleExecutionHistory> findLatestByUserId(@Param("userId") String userId, Pageable pageable);
+
+	/**
+	 * Page of a user's execution history that follows the given (executionTime, id) position, newest first.
+	 */
+	@Query("SELECT h FROM ScheduleExecutionHistory h WHERE h.userId = :userId"
+			+ " AND (h.executionTime < :executionTime OR (h.executionTime = :executionTime AND h.id < :id))"
+			+ " ORDER BY h.executionTime DESC, h.id DESC")
+	Slice<ScheduleExecutionHistory> findByUserIdBefore(@Param("userId") String userId, @Param("executionTime") Instant executionTime,
+			@Param("id") UUID id, Pageable pageable);
+
+	/**
+	 * Counts a user's execution history, stopping at the limit so heavy users do not cost a full count.
+	 */
+	@Query(value = "SELECT count(*) FROM (SELECT 1 FROM schedule_execution_history WHERE user_id = :userId LIMIT :limit) capped", nativeQuery = true)
+	long countByUserIdUpTo(@Param("userId") String userId, @Param("limit") int limit);
+
+	Optional<ScheduleExecutionHistory> findFirstByScheduleIdOrderByExecutionTimeDesc(UUID scheduleId);
+
+	/**
+	 * Folds one more identical outcome into a compacted entry without rewriting the rest of the row.
+	 *
+	 * @return The number of updated rows.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE ScheduleExecutionHistory h SET h.occurrences = h.occurrences + 1, h.lastSeenAt = :seenAt WHERE h.id = :id")
+	int recordRepetition(@Param("id") UUID id, @Param("seenAt") Instant seenAt);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.repository.energy;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import net.icewheel.energy.domain.energy.model.ScheduleLastFired;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ScheduleLastFiredRepository extends JpaRepository<ScheduleLastFired, UUID> {
+
+	/**
+	 * Moves the schedule's last fired time forward to {@code firedAt}, creating the entry if there is none and never
+	 * moving it back.
+	 * Why: Two nodes can record the same schedule at once. Each statement below is atomic, so whichever order they
+	 * run in, the entry ends at the later time. H2 does not support {@code ON CONFLICT ... DO UPDATE}, so the upsert
+	 * is a conditional update, then an insert that ignores conflicts, then the update again if another node inserted
+	 * first.
+	 */
+	@Transactional
+	default void advance(UUID scheduleId, Instant firedAt) {
+		if (advanceExisting(scheduleId, firedAt) == 0 && insertIfAbsent(scheduleId, firedAt) == 0) {
+			advanceExisting(scheduleId, firedAt);
+		}
+	}
+
+	/**
+	 * @return 1 if an existing entry was moved forward, 0 if there is none or it is already at or after {@code firedAt}.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE ScheduleLastFired f SET f.lastFiredAt = :firedAt WHERE f.scheduleId = :scheduleId AND f.lastFiredAt < :firedAt")
+	int advanceExisting(@Param("scheduleId") UUID scheduleId, @Param("firedAt") Instant firedAt);
+
+	/**
+	 * @return 1 if the entry was created, 0 if the schedule already had one.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO schedule_last_fired (schedule_id, last_fired_at) VALUES (:scheduleId, :firedAt) "
+			+ "ON CONFLICT DO NOTHING", nativeQuery = true)
+	int insertIfAbsent(@Param("scheduleId") UUID scheduleId, @Param("firedAt") Instant firedAt);
+}
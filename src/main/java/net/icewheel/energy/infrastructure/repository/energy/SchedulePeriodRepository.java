@@ -0,0 +1,66 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.repository.energy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulePeriodRepository extends JpaRepository<SchedulePeriod, UUID> {
+
+	/**
+	 * Lists a user's schedule periods, newest first, as shown on the schedules page.
+	 */
+	List<SchedulePeriod> findAllByUserOrderByCreatedAtDesc(User user);
+
+	/**
+	 * Same as {@link #findAllByUserOrderByCreatedAtDesc}, read lazily for exports. Must be consumed, and closed,
+	 * inside a transaction.
+	 */
+	Stream<SchedulePeriod> streamAllByUserOrderByCreatedAtDesc(User user);
+
+	/**
+	 * Deletes a period without loading it first.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM SchedulePeriod p WHERE p.scheduleGroupId = :scheduleGroupId")
+	int deleteByScheduleGroupId(@Param("scheduleGroupId") UUID scheduleGroupId);
+
+	/**
+	 * Disables all of a user's enabled periods, mirroring {@code PowerwallScheduleRepository.disableAllByUserId}.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE SchedulePeriod p SET p.enabled = false, p.updatedAt = :now WHERE p.user.id = :userId AND p.enabled = true")
+	int disableAllByUserId(@Param("userId") String userId, @Param("now") Instant now);
+}
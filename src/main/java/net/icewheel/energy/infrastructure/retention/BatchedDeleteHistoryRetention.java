@@ -0,0 +1,51 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retention for databases without partition management (H2): deletes expired history in time-bounded batches.
+ */
+@Component
+@Profile("!postgres")
+@Slf4j
+public class BatchedDeleteHistoryRetention implements HistoryRetentionStrategy {
+
+	private final BatchedDeleter deleter;
+
+	public BatchedDeleteHistoryRetention(JdbcTemplate jdbcTemplate, ExecutionHistoryConfig config) {
+		this.deleter = new BatchedDeleter(jdbcTemplate, config.getDeleteBatchSize());
+	}
+
+	@Override
+	public long purgeBefore(Instant cutoff) {
+		long deleted = deleter.deleteBefore("schedule_execution_history", "execution_time", cutoff);
+		log.info("Deleted {} execution history entries recorded before {}.", deleted, cutoff);
+		return deleted;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Deletes rows older than a cutoff in small batches.
+ * <p>
+ * Why: A single large DELETE holds locks and a long transaction on the busiest tables; short batches keep each
+ * statement cheap and let the scheduler and web requests interleave with the purge.
+ * </p>
+ */
+class BatchedDeleter {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int batchSize;
+
+	BatchedDeleter(JdbcTemplate jdbcTemplate, int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Deletes every row of the table whose time column is before the cutoff.
+	 *
+	 * @param table The table to delete from; must have an {@code id} column.
+	 * @param timeColumn The column holding the row's timestamp.
+	 * @param cutoff Rows before this instant are deleted.
+	 * @return The number of deleted rows.
+	 */
+	long deleteBefore(String table, String timeColumn, Instant cutoff) {
+		String sql = "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table
+				+ " WHERE " + timeColumn + " < ? ORDER BY " + timeColumn + " LIMIT ?)";
+		long total = 0;
+		int deleted;
+		do {
+			deleted = jdbcTemplate.update(sql, Timestamp.from(cutoff), batchSize);
+			total += deleted;
+		} while (deleted == batchSize);
+		return total;
+	}
+}
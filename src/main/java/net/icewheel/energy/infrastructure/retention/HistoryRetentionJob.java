@@ -0,0 +1,67 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expires execution history and schedule audit events once they are older than the configured retention period.
+ */
+@Component
+@Slf4j
+public class HistoryRetentionJob {
+
+	private final HistoryRetentionStrategy historyRetention;
+	private final ExecutionHistoryConfig config;
+	private final Clock clock;
+	private final BatchedDeleter deleter;
+
+	public HistoryRetentionJob(HistoryRetentionStrategy historyRetention, ExecutionHistoryConfig config, Clock clock,
+			JdbcTemplate jdbcTemplate) {
+		this.historyRetention = historyRetention;
+		this.config = config;
+		this.clock = clock;
+		this.deleter = new BatchedDeleter(jdbcTemplate, config.getDeleteBatchSize());
+	}
+
+	@Scheduled(cron = "0 15 4 * * *")
+	@SchedulerLock(name = "purgeExpiredHistory", lockAtMostFor = "PT1H", lockAtLeastFor = "PT1M")
+	public void purgeExpiredHistory() {
+		Instant now = clock.instant();
+		historyRetention.prepare(now);
+		if (config.getRetention().isZero()) {
+			return;
+		}
+		Instant cutoff = now.minus(config.getRetention());
+		long history = historyRetention.purgeBefore(cutoff);
+		// Why: Audit events are far fewer than execution entries, so a batched delete keeps them bounded on every database.
+		long audit = deleter.deleteBefore("schedule_audit_events", "\"timestamp\"", cutoff);
+		log.info("History retention removed {} execution entries and {} audit events older than {}.", history, audit, cutoff);
+	}
+}
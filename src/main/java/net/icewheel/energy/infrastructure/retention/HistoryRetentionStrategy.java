@@ -0,0 +1,46 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.time.Instant;
+
+/**
+ * Removes execution history that has outlived the configured retention period.
+ * The implementation depends on the database: PostgreSQL drops whole monthly partitions, other databases delete in
+ * batches.
+ */
+public interface HistoryRetentionStrategy {
+
+	/**
+	 * Prepares storage for upcoming history, e.g. by creating future partitions. Does nothing by default.
+	 *
+	 * @param now The current instant.
+	 */
+	default void prepare(Instant now) {
+	}
+
+	/**
+	 * Removes all execution history recorded before the cutoff.
+	 *
+	 * @param cutoff Entries with an execution time before this instant are removed.
+	 * @return The number of removed rows.
+	 */
+	long purgeBefore(Instant cutoff);
+}
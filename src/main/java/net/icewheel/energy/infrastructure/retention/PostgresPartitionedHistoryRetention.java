@@ -0,0 +1,209 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.config.ExecutionHistoryConfig;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Keeps {@code schedule_execution_history} range-partitioned by month on {@code execution_time} and expires history
+ * by detaching and dropping whole partitions.
+ * <p>
+ * Why: Dropping a partition is a metadata operation, so purging a month costs the same however large the table has
+ * grown, and it leaves no dead tuples for vacuum. Queries bounded by time only touch the partitions they need.
+ * </p>
+ */
+@Component
+@Profile("postgres")
+// Why: The table must exist before it can be converted, so this runs after Hibernate's schema update.
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class PostgresPartitionedHistoryRetention implements HistoryRetentionStrategy {
+
+	static final String TABLE = "schedule_execution_history";
+	private static final String DEFAULT_PARTITION = TABLE + "_default";
+	private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionOperations transactionOperations;
+	private final ExecutionHistoryConfig config;
+	private final BatchedDeleter deleter;
+
+	public PostgresPartitionedHistoryRetention(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+			ExecutionHistoryConfig config) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionOperations = transactionOperations;
+		this.config = config;
+		this.deleter = new BatchedDeleter(jdbcTemplate, config.getDeleteBatchSize());
+	}
+
+	/**
+	 * Converts a plain history table, as created by Hibernate, into a partitioned one. Runs once per database.
+	 */
+	@PostConstruct
+	public void partitionHistoryTable() {
+		List<String> kinds = jdbcTemplate.queryForList(
+				"SELECT c.relkind::text FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = current_schema() AND c.relname = ?",
+				String.class, TABLE);
+		if (kinds.isEmpty() || "p".equals(kinds.getFirst())) {
+			return;
+		}
+		log.info("Converting {} into a table partitioned by month on execution_time.", TABLE);
+		String legacy = TABLE + "_unpartitioned";
+		// Why: PostgreSQL DDL is transactional, so a failure part-way leaves the original table untouched.
+		transactionOperations.executeWithoutResult(status -> {
+			jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+			jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + legacy + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)"
+					+ " PARTITION BY RANGE (execution_time)");
+			// Why: A partitioned table's primary key must include the partition column.
+			jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TABLE + "_partitioned_pkey PRIMARY KEY (id, execution_time)");
+			jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+			Timestamp oldest = jdbcTemplate.queryForObject("SELECT min(execution_time) FROM " + legacy, Timestamp.class);
+			YearMonth month = oldest != null ? YearMonth.from(oldest.toInstant().atZone(ZoneOffset.UTC)) : YearMonth.now(ZoneOffset.UTC);
+			createPartitions(month, YearMonth.now(ZoneOffset.UTC).plusMonths(config.getPartitionMonthsAhead()));
+			jdbcTemplate.execute("INSERT INTO " + TABLE + " SELECT * FROM " + legacy);
+			jdbcTemplate.execute("DROP TABLE " + legacy);
+		});
+	}
+
+	@Override
+	public void prepare(Instant now) {
+		YearMonth current = YearMonth.from(now.atZone(ZoneOffset.UTC));
+		createPartitions(current, current.plusMonths(config.getPartitionMonthsAhead()));
+	}
+
+	@Override
+	public long purgeBefore(Instant cutoff) {
+		YearMonth cutoffMonth = YearMonth.from(cutoff.atZone(ZoneOffset.UTC));
+		long removed = 0;
+		for (String partition : listPartitions()) {
+			if (partition.equals(DEFAULT_PARTITION) || !partition.startsWith(TABLE + "_y")) {
+				continue;
+			}
+			YearMonth month = YearMonth.parse(partition.substring(TABLE.length() + 1), PARTITION_SUFFIX);
+			// Why: Only whole months that ended before the cutoff are dropped; the cutoff month is kept intact.
+			if (!month.isBefore(cutoffMonth)) {
+				continue;
+			}
+			removed += dropPartition(partition);
+		}
+		// Why: Rows can only land in the default partition if a monthly partition was missing; expire them row by row.
+		removed += deleter.deleteBefore(DEFAULT_PARTITION, "execution_time", cutoff);
+		return removed;
+	}
+
+	private void createPartitions(YearMonth from, YearMonth to) {
+		for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+			String partition = partitionName(month);
+			try {
+				jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+						+ " FOR VALUES FROM ('" + month.atDay(1) + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')");
+			}
+			catch (Exception e) {
+				// Why: Creation fails if the default partition already holds rows for that month; history still lands there.
+				log.warn("Could not create history partition {}: {}", partition, e.getMessage());
+			}
+		}
+	}
+
+	private long dropPartition(String partition) {
+		long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class);
+		if (!config.getExportDirectory().isBlank()) {
+			export(partition, Path.of(config.getExportDirectory()));
+		}
+		jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+		jdbcTemplate.execute("DROP TABLE " + partition);
+		log.info("Dropped expired history partition {} with {} entries.", partition, rows);
+		return rows;
+	}
+
+	/**
+	 * Writes every row of the partition to a gzip-compressed CSV file named after it.
+	 */
+	private void export(String partition, Path directory) {
+		Path file = directory.resolve(partition + ".csv.gz");
+		try {
+			Files.createDirectories(directory);
+			try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8)) {
+				AtomicBoolean headerWritten = new AtomicBoolean();
+				jdbcTemplate.query("SELECT * FROM " + partition + " ORDER BY execution_time", rs -> {
+					ResultSetMetaData meta = rs.getMetaData();
+					try {
+						if (headerWritten.compareAndSet(false, true)) {
+							for (int i = 1; i <= meta.getColumnCount(); i++) {
+								writer.write((i > 1 ? "," : "") + meta.getColumnName(i));
+							}
+							writer.write('\n');
+						}
+						for (int i = 1; i <= meta.getColumnCount(); i++) {
+							String value = rs.getString(i);
+							writer.write((i > 1 ? "," : "") + (value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\""));
+						}
+						writer.write('\n');
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			log.info("Exported history partition {} to {}.", partition, file);
+		}
+		catch (IOException e) {
+			// Why: Never drop data that could not be archived when an archive was requested.
+			throw new UncheckedIOException("Could not export history partition " + partition + " to " + file, e);
+		}
+	}
+
+	private List<String> listPartitions() {
+		return jdbcTemplate.queryForList(
+				"SELECT child.relname::text FROM pg_inherits i JOIN pg_class parent ON parent.oid = i.inhparent "
+						+ "JOIN pg_class child ON child.oid = i.inhrelid JOIN pg_namespace n ON n.oid = parent.relnamespace "
+						+ "WHERE n.nspname = current_schema() AND parent.relname = ? ORDER BY child.relname",
+				String.class, TABLE);
+	}
+
+	private static String partitionName(YearMonth month) {
+		return TABLE + "_" + month.format(PARTITION_SUFFIX);
+	}
+}
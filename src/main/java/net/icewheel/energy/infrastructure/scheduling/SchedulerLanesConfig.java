@@ -0,0 +1,88 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.scheduling;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Gives each scheduled job family its own scheduler "lane", selected via {@code @Scheduled(scheduler = ...)}.
+ * <p>
+ * Why: With a single shared scheduler, an hourly token refresh or a long reconciliation run delays the
+ * every-minute schedule executor, so backup reserve commands fire late. The minute tick gets a dedicated
+ * platform thread so its trigger timing never depends on virtual-thread carrier availability; the
+ * I/O-heavy lanes run each execution on a fresh virtual thread.
+ * </p>
+ */
+@Configuration
+public class SchedulerLanesConfig {
+
+	public static final String EXECUTION_LANE = "executionTaskScheduler";
+	public static final String RECONCILIATION_LANE = "reconciliationTaskScheduler";
+	public static final String TOKEN_REFRESH_LANE = "tokenRefreshTaskScheduler";
+	public static final String PARTNER_REGISTRATION_LANE = "partnerRegistrationTaskScheduler";
+
+	@Bean(name = EXECUTION_LANE)
+	public ThreadPoolTaskScheduler executionTaskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("sched-execution-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(30);
+		return scheduler;
+	}
+
+	@Bean(name = RECONCILIATION_LANE)
+	public SimpleAsyncTaskScheduler reconciliationTaskScheduler() {
+		return virtualThreadLane("sched-reconciliation-");
+	}
+
+	@Bean(name = TOKEN_REFRESH_LANE)
+	public SimpleAsyncTaskScheduler tokenRefreshTaskScheduler() {
+		return virtualThreadLane("sched-token-refresh-");
+	}
+
+	@Bean(name = PARTNER_REGISTRATION_LANE)
+	public SimpleAsyncTaskScheduler partnerRegistrationTaskScheduler() {
+		return virtualThreadLane("sched-partner-registration-");
+	}
+
+	/**
+	 * The default scheduler for any {@code @Scheduled} method that does not name a lane.
+	 * Why: Declaring the lanes above switches off Spring Boot's auto-configured {@code taskScheduler}.
+	 */
+	@Bean(name = "taskScheduler")
+	@Primary
+	public TaskScheduler taskScheduler() {
+		return virtualThreadLane("sched-default-");
+	}
+
+	private static SimpleAsyncTaskScheduler virtualThreadLane(String threadNamePrefix) {
+		SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+		scheduler.setVirtualThreads(true);
+		scheduler.setThreadNamePrefix(threadNamePrefix);
+		scheduler.setTaskTerminationTimeout(30_000);
+		return scheduler;
+	}
+}
@@ -33,6 +33,7 @@ import net.icewheel.energy.infrastructure.vendors.tesla.auth.dto.PublicKeyApiRes
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.dto.TeslaTokenExchangeResult;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.dto.TokenResponse;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.dto.UserMeResponse;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudget;
 import net.icewheel.energy.infrastructure.vendors.tesla.config.TeslaApiConfig;
 import net.icewheel.energy.infrastructure.vendors.tesla.exception.TeslaApiException;
 import net.icewheel.energy.infrastructure.vendors.tesla.repository.RegisteredRegionRepository;
@@ -56,6 +57,7 @@ public class TeslaAuthService {
 	private final RestClient restClient;
 	private final RegisteredRegionRepository registeredRegionRepository;
 	private final KeypairService keypairService;
+	private final TeslaCallBudget callBudget;
 
 	private static final String GRANT_TYPE_AUTHORIZATION_CODE = "authorization_code";
 	private static final String GRANT_TYPE_REFRESH_TOKEN = "refresh_token";
@@ -65,11 +67,12 @@ public class TeslaAuthService {
 	private static final String PARTNER_PUBLIC_KEY_PATH = "/api/1/partner_accounts/public_key";
 
 	public TeslaAuthService(TeslaApiConfig teslaApiConfig, RestClient restClient,
-			RegisteredRegionRepository registeredRegionRepository, KeypairService keypairService) {
+			RegisteredRegionRepository registeredRegionRepository, KeypairService keypairService, TeslaCallBudget callBudget) {
 		this.teslaApiConfig = teslaApiConfig;
 		this.restClient = restClient;
 		this.registeredRegionRepository = registeredRegionRepository;
 		this.keypairService = keypairService;
+		this.callBudget = callBudget;
 	}
 
 	public String getAuthURL(String state) {
@@ -121,12 +124,12 @@ public class TeslaAuthService {
 			params.add("client_secret", teslaApiConfig.getClientSecret());
 			params.add("refresh_token", refreshToken);
 
-			return restClient.post()
+			return callBudget.execute(() -> restClient.post()
 					.uri(teslaApiConfig.getTokenUrl())
 					.contentType(MediaType.APPLICATION_FORM_URLENCODED)
 					.body(params)
 					.retrieve()
-					.body(TokenResponse.class);
+					.body(TokenResponse.class));
 		}
 		catch (Exception e) {
 			throw new TeslaApiException("Failed to refresh token", e);
@@ -40,6 +40,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.api.web.viewmodel.TokenDetailView;
 import net.icewheel.energy.config.TokenRefreshConfig;
 import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.infrastructure.cache.CacheInvalidationBus;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.domain.Token;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.dto.TokenResponse;
@@ -67,6 +69,7 @@ public class TokenServiceImpl implements TokenService {
 	private final TeslaAuthService teslaAuthService; // This is a one-way dependency, so @Lazy is not needed.
 	private final TokenRefreshConfig tokenRefreshConfig;
 	private final ObjectMapper objectMapper;
+	private final CacheInvalidationBus invalidationBus;
 
 	/**
 	 * Saves a brand new Tesla API token for a user. This is typically called when a user
@@ -89,6 +92,7 @@ public class TokenServiceImpl implements TokenService {
 
         updateTokenFields(token, tokenResponse);
         tokenRepository.save(token);
+        invalidationBus.publish(CacheRegions.TOKENS, user.getId());
         log.info("New token saved for user {}", user.getId());
     }
 
@@ -111,6 +115,7 @@ public class TokenServiceImpl implements TokenService {
         newToken.setName(oldToken.getName());
         updateTokenFields(newToken, tokenResponse);
         tokenRepository.save(newToken);
+        invalidationBus.publish(CacheRegions.TOKENS, oldToken.getUser().getId());
 		log.info("New token created from refresh for user {}. Old token ID: {}, New token ID: {}", oldToken.getUser()
 				.getId(), oldToken.getId(), newToken.getId());
     }
@@ -228,6 +233,7 @@ public class TokenServiceImpl implements TokenService {
         List<Token> tokens = tokenRepository.findByUser(user);
         if (!tokens.isEmpty()) {
             tokenRepository.deleteAll(tokens);
+            invalidationBus.publish(CacheRegions.TOKENS, user.getId());
             log.info("Revoked {} token(s) for user {}", tokens.size(), user.getId());
         }
     }
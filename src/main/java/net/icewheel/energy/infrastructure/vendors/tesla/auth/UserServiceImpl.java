@@ -19,13 +19,20 @@
 
 package net.icewheel.energy.infrastructure.vendors.tesla.auth;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.infrastructure.cache.CacheInvalidationBus;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
+import net.icewheel.energy.infrastructure.vendors.tesla.repository.TokenRepository;
 
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
@@ -38,6 +45,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PowerwallScheduleRepository powerwallScheduleRepository;
+    private final SchedulePeriodRepository schedulePeriodRepository;
+    private final TokenRepository tokenRepository;
+    private final CacheInvalidationBus invalidationBus;
 
     @Override
     @Transactional
@@ -47,6 +57,7 @@ public class UserServiceImpl implements UserService {
                 .map(user -> {
                     // Update user attributes from SSO provider on each login
                     updateUserFromOAuth2User(user, oauth2User);
+                    invalidationBus.publish(CacheRegions.USERS, user.getId());
                     return userRepository.save(user);
                 })
                 .orElseGet(() -> {
@@ -61,9 +72,17 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void disconnectTeslaAccount(User user) {
-        user.getTokens().clear();
-        user.getPowerwallSchedules().forEach(schedule -> schedule.setEnabled(false));
-        userRepository.save(user);
+        // Why: Set-based statements keep the cost of disconnecting flat, however many tokens and schedules the
+        // account has; nothing is loaded into the persistence context. For an unknown user they change nothing.
+        Instant now = Instant.now();
+        List<UUID> disabledScheduleIds = powerwallScheduleRepository.findEnabledIdsByUserId(user.getId());
+        int tokens = tokenRepository.deleteAllByUserId(user.getId());
+        int schedules = powerwallScheduleRepository.disableAllByUserId(user.getId(), now);
+        schedulePeriodRepository.disableAllByUserId(user.getId(), now);
+        disabledScheduleIds.forEach(id -> invalidationBus.publish(CacheRegions.POWERWALL_SCHEDULES, id));
+        invalidationBus.publish(CacheRegions.TOKENS, user.getId());
+        log.info("Disconnected Tesla account of user {}: deleted {} token(s), disabled {} schedule event(s).",
+                user.getId(), tokens, schedules);
     }
 
     private void updateUserFromOAuth2User(User user, OAuth2User oauth2User) {
@@ -25,7 +25,6 @@ import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -34,6 +33,7 @@ import lombok.Getter;
 import lombok.Setter;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.shared.model.Auditable;
+import net.icewheel.energy.shared.id.UuidV7Id;
 
 /**
  * Represents a Tesla OAuth token stored in the database.
@@ -50,7 +50,7 @@ public class Token extends Auditable implements Serializable {
      * The user ID associated with this token.
      */
     @Id
-    @GeneratedValue
+    @UuidV7Id
     @Column(columnDefinition = "uuid", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,196 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.vendors.tesla.budget;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.icewheel.energy.config.TeslaCallBudgetConfig;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Admits outbound Tesla calls through weighted priority lanes that share one concurrency budget.
+ * <p>
+ * Why: Scheduled commands, UI reads, reconciliation sweeps and token refreshes all compete for the same upstream
+ * capacity. Freed slots always go to the highest-priority lane with a waiting call, and the lower lanes may only
+ * occupy a configured share of the budget, so a reconciliation sweep can never hold every slot while a
+ * time-critical backup reserve change waits behind it.
+ * </p>
+ */
+@Component
+public class TeslaCallBudget {
+
+	private final int maxConcurrentCalls;
+	private final long acquireTimeoutNanos;
+	private final Map<TeslaCallPriority, Integer> laneLimits = new EnumMap<>(TeslaCallPriority.class);
+	private final Map<TeslaCallPriority, Timer> waitTimers = new EnumMap<>(TeslaCallPriority.class);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private final int[] inFlightByLane = new int[TeslaCallPriority.values().length];
+	private final int[] waitingByLane = new int[TeslaCallPriority.values().length];
+	private int inFlight;
+
+	public TeslaCallBudget(TeslaCallBudgetConfig config, MeterRegistry meterRegistry) {
+		this.maxConcurrentCalls = config.getMaxConcurrentCalls();
+		this.acquireTimeoutNanos = config.getAcquireTimeout().toNanos();
+		laneLimits.put(TeslaCallPriority.COMMAND, maxConcurrentCalls);
+		laneLimits.put(TeslaCallPriority.INTERACTIVE, share(config.getInteractiveShare()));
+		laneLimits.put(TeslaCallPriority.BACKGROUND, share(config.getBackgroundShare()));
+
+		for (TeslaCallPriority lane : TeslaCallPriority.values()) {
+			String tag = lane.name().toLowerCase(Locale.ROOT);
+			waitTimers.put(lane, Timer.builder("icewheel.tesla.calls.wait")
+					.description("Time Tesla calls waited for admission to the shared call budget")
+					.tag("lane", tag)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+			Gauge.builder("icewheel.tesla.calls.queued", this, budget -> budget.waiting(lane))
+					.description("Tesla calls waiting for admission")
+					.tag("lane", tag)
+					.register(meterRegistry);
+			Gauge.builder("icewheel.tesla.calls.active", this, budget -> budget.active(lane))
+					.description("Tesla calls currently in flight")
+					.tag("lane", tag)
+					.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * Runs a Tesla call once the current thread's lane ({@link TeslaCallPriority#current()}) is admitted.
+	 *
+	 * @throws TeslaCallBudgetExceededException if the call was not admitted within the acquire timeout.
+	 */
+	public <T> T execute(Supplier<T> call) {
+		TeslaCallPriority lane = TeslaCallPriority.current();
+		long start = System.nanoTime();
+		boolean admitted = acquire(lane);
+		waitTimers.get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		if (!admitted) {
+			throw new TeslaCallBudgetExceededException("No Tesla call capacity became available for the "
+					+ lane.name().toLowerCase(Locale.ROOT) + " lane within the acquire timeout.");
+		}
+		try {
+			return call.get();
+		}
+		finally {
+			release(lane);
+		}
+	}
+
+	private boolean acquire(TeslaCallPriority lane) {
+		lock.lock();
+		try {
+			waitingByLane[lane.ordinal()]++;
+			boolean admitted = false;
+			try {
+				long remaining = acquireTimeoutNanos;
+				while (!isAdmissible(lane)) {
+					if (remaining <= 0) {
+						return false;
+					}
+					remaining = released.awaitNanos(remaining);
+				}
+				inFlight++;
+				inFlightByLane[lane.ordinal()]++;
+				admitted = true;
+				return true;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			finally {
+				waitingByLane[lane.ordinal()]--;
+				if (!admitted) {
+					// A lower lane may have been held back only because this call was waiting.
+					released.signalAll();
+				}
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void release(TeslaCallPriority lane) {
+		lock.lock();
+		try {
+			inFlight--;
+			inFlightByLane[lane.ordinal()]--;
+			released.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * A lane is admitted when there is room in the shared budget and in its own share, and no higher-priority lane
+	 * has a call waiting that could use the slot instead.
+	 */
+	private boolean isAdmissible(TeslaCallPriority lane) {
+		if (inFlight >= maxConcurrentCalls || inFlightByLane[lane.ordinal()] >= laneLimits.get(lane)) {
+			return false;
+		}
+		for (TeslaCallPriority higher : TeslaCallPriority.values()) {
+			if (higher.ordinal() >= lane.ordinal()) {
+				break;
+			}
+			if (waitingByLane[higher.ordinal()] > 0 && inFlightByLane[higher.ordinal()] < laneLimits.get(higher)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int waiting(TeslaCallPriority lane) {
+		lock.lock();
+		try {
+			return waitingByLane[lane.ordinal()];
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private int active(TeslaCallPriority lane) {
+		lock.lock();
+		try {
+			return inFlightByLane[lane.ordinal()];
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private int share(double fraction) {
+		return Math.max(1, (int) Math.ceil(maxConcurrentCalls * fraction));
+	}
+}
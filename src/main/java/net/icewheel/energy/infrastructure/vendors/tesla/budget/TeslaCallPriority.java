@@ -0,0 +1,73 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.vendors.tesla.budget;
+
+import java.util.function.Supplier;
+
+/**
+ * The priority lane an outbound Tesla call is admitted through, in descending priority.
+ * <p>
+ * The lane is carried by the calling thread, so callers mark a unit of work once (e.g. a scheduled command or a
+ * reconciliation sweep) instead of passing a priority through every service method. Threads that never set one,
+ * such as web request threads, use {@link #INTERACTIVE}.
+ * </p>
+ */
+public enum TeslaCallPriority {
+
+	/** Time-critical backup reserve commands from the schedule executor. */
+	COMMAND,
+	/** Reads on behalf of a user looking at the UI. */
+	INTERACTIVE,
+	/** Reconciliation sweeps, proactive token refreshes and other background work. */
+	BACKGROUND;
+
+	private static final ThreadLocal<TeslaCallPriority> CURRENT = new ThreadLocal<>();
+
+	public static TeslaCallPriority current() {
+		TeslaCallPriority priority = CURRENT.get();
+		return priority != null ? priority : INTERACTIVE;
+	}
+
+	/**
+	 * Runs the given work with this priority on the current thread, restoring the previous priority afterwards.
+	 */
+	public void run(Runnable work) {
+		call(() -> {
+			work.run();
+			return null;
+		});
+	}
+
+	public <T> T call(Supplier<T> work) {
+		TeslaCallPriority previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return work.get();
+		}
+		finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			}
+			else {
+				CURRENT.remove();
+			}
+		}
+	}
+}
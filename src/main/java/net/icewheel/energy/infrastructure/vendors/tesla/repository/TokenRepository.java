@@ -30,7 +30,10 @@ import net.icewheel.energy.infrastructure.vendors.tesla.auth.domain.Token;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TokenRepository extends JpaRepository<Token, UUID> {
 
@@ -73,4 +76,15 @@ public interface TokenRepository extends JpaRepository<Token, UUID> {
 	@Query("SELECT t FROM Token t WHERE t.user = :user ORDER BY t.createdAt DESC")
 	List<Token> findByUserWithLockOrderByCreatedAtDesc(User user, Pageable pageable);
 
+	/**
+	 * Deletes all of a user's tokens in one statement, without loading them.
+	 *
+	 * @param userId The ID of the user whose tokens are deleted.
+	 * @return The number of tokens deleted.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM Token t WHERE t.user.id = :userId")
+	int deleteAllByUserId(@Param("userId") String userId);
+
 }
\ No newline at end of file
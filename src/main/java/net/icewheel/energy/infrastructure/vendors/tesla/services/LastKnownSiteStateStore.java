@@ -0,0 +1,73 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.vendors.tesla.services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the most recent backup reserve observed for each energy site, either read from {@code site_info}
+ * or set by a successful command.
+ * <p>
+ * Why: At the busiest minutes many schedules target sites that a reconciliation has just corrected. Knowing the
+ * current reserve lets the executor skip commands that would not change anything. Entries are only trusted
+ * within a freshness bound, because the reserve can also be changed from the Tesla app. The store is per
+ * instance and in memory; a miss simply means the command is sent.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LastKnownSiteStateStore {
+
+	private final Clock clock;
+	private final Map<String, Observation> backupReserveBySite = new ConcurrentHashMap<>();
+
+	public void recordBackupReserve(String siteId, int backupPercent) {
+		backupReserveBySite.put(siteId, new Observation(backupPercent, clock.instant()));
+	}
+
+	/**
+	 * @param siteId The energy site.
+	 * @param maxAge How old an observation may be and still be trusted; zero never trusts any observation.
+	 * @return The last observed backup reserve, if it was observed within {@code maxAge}.
+	 */
+	public OptionalInt findBackupReserve(String siteId, Duration maxAge) {
+		Observation observation = backupReserveBySite.get(siteId);
+		if (observation == null || !maxAge.isPositive() || observation.observedAt().isBefore(clock.instant().minus(maxAge))) {
+			return OptionalInt.empty();
+		}
+		return OptionalInt.of(observation.backupPercent());
+	}
+
+	public void forget(String siteId) {
+		backupReserveBySite.remove(siteId);
+	}
+
+	private record Observation(int backupPercent, Instant observedAt) {
+	}
+}
@@ -21,6 +21,7 @@ package net.icewheel.energy.infrastructure.vendors.tesla.services;
 
 import java.util.List;
 
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudgetExceededException;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.ChargeHistoryResponse;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.EnergyHistoryResponse;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.LiveStatusResponse;
@@ -41,6 +42,13 @@ public interface TeslaEnergyService {
 
 	List<Product> getSchedulableEnergySites(String userId);
 
+	/**
+	 * Sets the backup reserve of an energy site.
+	 *
+	 * @return true if Tesla accepted the command, false if it failed or was rejected.
+	 * @throws TeslaCallBudgetExceededException if no call capacity became available in time. The command was not
+	 * sent, so the caller may retry it.
+	 */
 	Boolean setBackupReserve(String userId, String siteId, int backupPercent);
 
 	int getBackupReservePercent(String userId, String siteId);
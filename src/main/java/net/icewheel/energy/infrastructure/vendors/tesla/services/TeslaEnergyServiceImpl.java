@@ -28,6 +28,8 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.TokenService;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudget;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudgetExceededException;
 import net.icewheel.energy.infrastructure.vendors.tesla.config.TeslaApiConfig;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.BackupRequest;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.ChargeHistoryApiResponse;
@@ -56,6 +58,8 @@ public class TeslaEnergyServiceImpl implements TeslaEnergyService {
 	private final RestClient restClient;
 	private final TeslaApiConfig teslaApiConfig;
 	private final TokenService tokenService;
+	private final LastKnownSiteStateStore siteStateStore;
+	private final TeslaCallBudget callBudget;
 
 	/**
 	 * A helper method to execute authenticated GET requests to the Tesla API.
@@ -80,13 +84,13 @@ public class TeslaEnergyServiceImpl implements TeslaEnergyService {
 
 		String url = teslaApiConfig.getApiBaseUrl() + path;
 		try {
-			return restClient.get()
+			return callBudget.execute(() -> restClient.get()
 					.uri(url, uriVariables)
 					.headers(headers -> headers.setBearerAuth(accessToken))
 					.retrieve()
-					.body(responseType);
+					.body(responseType));
 		}
-		catch (RestClientException e) {
+		catch (RestClientException | TeslaCallBudgetExceededException e) {
 			log.error("Error calling Tesla API at {} for user {}: {}", url, userId, e.getMessage());
 			return null;
 		}
@@ -96,6 +100,9 @@ public class TeslaEnergyServiceImpl implements TeslaEnergyService {
 	public SiteInfoResponse getSiteInfo(String userId, String siteId) {
 		SiteInfoApiResponse apiResponse = executeGetRequest(userId, "/api/1/energy_sites/{siteId}/site_info", SiteInfoApiResponse.class, siteId);
 		log.debug("Site info response for site {}: {}", siteId, apiResponse);
+		if (apiResponse != null && apiResponse.getResponse() != null) {
+			siteStateStore.recordBackupReserve(siteId, apiResponse.getResponse().getBackupReservePercent());
+		}
 		// Return null on failure for consistency with getLiveStatus, making error handling more explicit.
 		return (apiResponse != null && apiResponse.getResponse() != null) ? apiResponse.getResponse() : null;
 	}
@@ -225,17 +232,20 @@ public class TeslaEnergyServiceImpl implements TeslaEnergyService {
 
 		String url = teslaApiConfig.getApiBaseUrl() + "/api/1/energy_sites/{siteId}/backup";
 		try {
-			restClient.post()
+			callBudget.execute(() -> restClient.post()
 					.uri(url, siteId)
 					.headers(headers -> headers.setBearerAuth(accessToken))
 					.body(new BackupRequest(backupPercent))
 					.retrieve()
-					.toBodilessEntity();
+					.toBodilessEntity());
 			log.info("Successfully set backup reserve to {}% for site {}", backupPercent, siteId);
+			siteStateStore.recordBackupReserve(siteId, backupPercent);
 			return true;
 		}
 		catch (RestClientException e) {
 			log.error("Failed to set backup reserve to {}% for site {}. Error: {}", backupPercent, siteId, e.getMessage());
+			// Why: The command may or may not have been applied, so the last known state can no longer be trusted.
+			siteStateStore.forget(siteId);
 			return false;
 		}
 	}
@@ -0,0 +1,66 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps a set of days to a 7-bit integer column: bit 0 is Monday, bit 6 is Sunday.
+ * <p>
+ * Reads return an {@link EnumSet}. Why: A single column keeps the days on the schedule row itself, so loading
+ * schedules needs no second table, and an {@link EnumSet} is itself a bit vector.
+ * </p>
+ */
+@Converter
+public class DayOfWeekSetConverter implements AttributeConverter<Set<DayOfWeek>, Integer> {
+
+	@Override
+	public Integer convertToDatabaseColumn(Set<DayOfWeek> attribute) {
+		int mask = 0;
+		if (attribute != null) {
+			for (DayOfWeek day : attribute) {
+				mask |= bit(day);
+			}
+		}
+		return mask;
+	}
+
+	@Override
+	public Set<DayOfWeek> convertToEntityAttribute(Integer dbData) {
+		EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+		if (dbData != null) {
+			for (DayOfWeek day : DayOfWeek.values()) {
+				if ((dbData & bit(day)) != 0) {
+					days.add(day);
+				}
+			}
+		}
+		return days;
+	}
+
+	private static int bit(DayOfWeek day) {
+		return 1 << (day.getValue() - 1);
+	}
+}
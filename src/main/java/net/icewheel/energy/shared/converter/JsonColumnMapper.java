@@ -0,0 +1,82 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Holds the single, preconfigured Jackson mapper used for entity JSON columns.
+ * <p>
+ * Why: Building an {@link ObjectMapper} and registering modules is expensive, and JSON columns are read on
+ * hot request paths (e.g., every row of the schedule history page). The mapper, reader and writer here are
+ * created once and are thread-safe, so every converter and lazy map in the application shares them.
+ * </p>
+ */
+public final class JsonColumnMapper {
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() { };
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+	private static final ObjectReader MAP_READER = MAPPER.readerFor(MAP_TYPE);
+	private static final ObjectWriter WRITER = MAPPER.writer();
+
+	private JsonColumnMapper() {
+	}
+
+	/**
+	 * Parses a JSON object column value into a map.
+	 *
+	 * @param json The raw JSON text read from the database.
+	 * @return The parsed map.
+	 * @throws IllegalStateException if the stored value is not a valid JSON object.
+	 */
+	public static Map<String, Object> readMap(String json) {
+		try {
+			return MAP_READER.readValue(json);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Could not parse JSON column value.", e);
+		}
+	}
+
+	/**
+	 * Serializes a value into JSON text suitable for storing in a JSON column.
+	 *
+	 * @param value The value to serialize.
+	 * @return The JSON text.
+	 * @throws IllegalArgumentException if the value cannot be serialized.
+	 */
+	public static String write(Object value) {
+		try {
+			return WRITER.writeValueAsString(value);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Could not serialize value to a JSON column.", e);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.util.Map;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Maps a {@code Map<String, Object>} attribute to a JSON column.
+ * <p>
+ * Reads return a {@link LazyJsonMap}, so the column is only parsed when the map is actually used.
+ * Serialization and parsing go through the shared {@link JsonColumnMapper}.
+ * </p>
+ * Why {@code @Immutable}: Entities always replace these maps through their setters and never mutate them in place,
+ * so Hibernate can keep the loaded instance as its snapshot instead of deep-copying (and therefore parsing) it.
+ */
+@Converter
+@Immutable
+public class JsonMapConverter implements AttributeConverter<Map<String, Object>, String> {
+
+	@Override
+	public String convertToDatabaseColumn(Map<String, Object> attribute) {
+		if (attribute == null) {
+			return null;
+		}
+		// An unread map has not changed, so its original text can be written back as-is.
+		if (attribute instanceof LazyJsonMap lazy && !lazy.isParsed()) {
+			return lazy.getJson();
+		}
+		return JsonColumnMapper.write(attribute);
+	}
+
+	@Override
+	public Map<String, Object> convertToEntityAttribute(String dbData) {
+		if (dbData == null || dbData.isBlank()) {
+			return null;
+		}
+		return new LazyJsonMap(dbData);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only map backed by the raw JSON text of a database column.
+ * <p>
+ * Why: Loading an entity should not pay for JSON parsing unless the map is actually used. The JSON is only
+ * parsed the first time the map is read, and if it is never read it is written back verbatim without
+ * being re-serialized. Two unread instances are compared by their raw text, so Hibernate's dirty checking
+ * does not force a parse either.
+ * </p>
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String json;
+
+	private transient volatile Map<String, Object> parsed;
+
+	LazyJsonMap(String json) {
+		this.json = json;
+	}
+
+	/**
+	 * @return The raw JSON text this map was loaded from.
+	 */
+	public String getJson() {
+		return json;
+	}
+
+	/**
+	 * @return true if the JSON has already been parsed.
+	 */
+	public boolean isParsed() {
+		return parsed != null;
+	}
+
+	private Map<String, Object> parsed() {
+		Map<String, Object> result = parsed;
+		if (result == null) {
+			result = Collections.unmodifiableMap(JsonColumnMapper.readMap(json));
+			parsed = result;
+		}
+		return result;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return parsed().entrySet();
+	}
+
+	@Override
+	public Object get(Object key) {
+		return parsed().get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return parsed().containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return parsed().size();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o instanceof LazyJsonMap other && !isParsed() && !other.isParsed() && json.equals(other.json)) {
+			return true;
+		}
+		return super.equals(o);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+}
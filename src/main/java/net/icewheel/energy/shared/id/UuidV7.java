@@ -0,0 +1,62 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.id;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter and
+ * 62 random bits.
+ * <p>
+ * Why: Random v4 keys land anywhere in the primary-key B-tree, so every insert dirties a random leaf page. Keys
+ * that grow with time append to the right edge of the index instead, which keeps the hot pages cached and the
+ * index compact on the high-insert tables.
+ * </p>
+ */
+public final class UuidV7 {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	// Why: Holds (millis << 12 | counter) of the last id so ids from one JVM are strictly increasing, even when
+	// several are generated in the same millisecond or the wall clock steps backwards.
+	private static final AtomicLong LAST = new AtomicLong();
+
+	private UuidV7() {
+	}
+
+	/**
+	 * @return A new version 7 UUID, greater than any previously returned by this JVM.
+	 */
+	public static UUID generate() {
+		return generate(Clock.systemUTC());
+	}
+
+	static UUID generate(Clock clock) {
+		long now = clock.millis() << 12;
+		// A counter overflow carries into the timestamp bits, which RFC 9562 allows.
+		long next = LAST.updateAndGet(previous -> Math.max(now, previous + 1));
+		long mostSigBits = ((next >>> 12) << 16) | 0x7000L | (next & 0xFFFL);
+		long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
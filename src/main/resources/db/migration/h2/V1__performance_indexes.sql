@@ -0,0 +1,45 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Index set matched to the repository queries.
+-- Why: Hibernate's ddl-auto only creates primary keys and unique constraints; every other lookup scanned its table.
+-- Tables and columns are still created by Hibernate, which runs before these migrations.
+-- Lookups by user_id alone get no index here: H2 backs every foreign key with an index on the referencing column
+-- and plans those lookups with it, whatever wider index exists. PostgreSQL creates the (user_id, time) indexes.
+
+-- PowerwallScheduleRepository.findAllByScheduleGroupId
+CREATE INDEX IF NOT EXISTS idx_powerwall_schedules_group ON powerwall_schedules (schedule_group_id);
+-- PowerwallScheduleRepository.findAllEnabledWithUser (every minute)
+CREATE INDEX IF NOT EXISTS idx_powerwall_schedules_enabled ON powerwall_schedules (enabled);
+
+-- ScheduleExecutionHistoryRepository.findLatestByUserId / findByUserIdBefore (keyset pagination)
+CREATE INDEX IF NOT EXISTS idx_execution_history_user_time_id ON schedule_execution_history (user_id, execution_time DESC, id DESC);
+-- ScheduleExecutionHistoryRepository.findFirstByScheduleIdOrderByExecutionTimeDesc (SKIPPED compaction)
+CREATE INDEX IF NOT EXISTS idx_execution_history_schedule_time ON schedule_execution_history (schedule_id, execution_time DESC);
+-- Batched retention delete
+CREATE INDEX IF NOT EXISTS idx_execution_history_time ON schedule_execution_history (execution_time);
+
+-- Batched retention delete
+CREATE INDEX IF NOT EXISTS idx_schedule_audit_events_time ON schedule_audit_events ("timestamp");
+
+-- TokenRepository.findByEmail
+CREATE INDEX IF NOT EXISTS idx_tokens_email ON tokens (email);
+
+-- ScheduleExecutionClaimRepository.deleteByFireTimeBefore
+CREATE INDEX IF NOT EXISTS idx_schedule_execution_claims_fire_time ON schedule_execution_claims (fire_time);
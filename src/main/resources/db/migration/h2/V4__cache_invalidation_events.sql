@@ -0,0 +1,30 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Event log of the polling cache invalidation bus (PollingCacheInvalidationBus), used where LISTEN/NOTIFY is not
+-- available. Rows are written in the publishing transaction, read by every instance and deleted after a few minutes.
+CREATE TABLE IF NOT EXISTS cache_invalidation_events (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    region     VARCHAR(64)  NOT NULL,
+    entity_key VARCHAR(255),
+    origin     VARCHAR(36)  NOT NULL,
+    created_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_events_created ON cache_invalidation_events (created_at);
@@ -0,0 +1,28 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Let the database remove a schedule's last-fired entry together with the schedule.
+-- Why: Schedule groups are deleted with one bulk statement instead of entity by entity, so dependent rows must
+-- follow through ON DELETE CASCADE. Entries left behind by schedules deleted before this release are removed first.
+DELETE FROM schedule_last_fired
+WHERE NOT EXISTS (SELECT 1 FROM powerwall_schedules s WHERE s.id = schedule_last_fired.schedule_id);
+
+ALTER TABLE schedule_last_fired
+    ADD CONSTRAINT fk_schedule_last_fired_schedule
+    FOREIGN KEY (schedule_id) REFERENCES powerwall_schedules (id) ON DELETE CASCADE;
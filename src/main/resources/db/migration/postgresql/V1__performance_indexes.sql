@@ -0,0 +1,53 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Index set matched to the repository queries.
+-- schedule_execution_history is partitioned (PostgresPartitionedHistoryRetention); indexes on it cascade to every partition.
+-- Why: Hibernate's ddl-auto only creates primary keys and unique constraints; every other lookup scanned its table.
+-- Tables and columns are still created by Hibernate, which runs before these migrations.
+
+-- PowerwallScheduleRepository.findAllByUser
+CREATE INDEX IF NOT EXISTS idx_powerwall_schedules_user ON powerwall_schedules (user_id);
+-- PowerwallScheduleRepository.findAllByScheduleGroupId
+CREATE INDEX IF NOT EXISTS idx_powerwall_schedules_group ON powerwall_schedules (schedule_group_id);
+-- PowerwallScheduleRepository.findAllEnabledWithUser (every minute)
+-- Why: A partial index holds only the enabled schedules, so the per-minute check reads just those rows.
+CREATE INDEX IF NOT EXISTS idx_powerwall_schedules_enabled ON powerwall_schedules (user_id) WHERE enabled;
+
+-- ScheduleExecutionHistoryRepository.findLatestByUserId / findByUserIdBefore (keyset pagination)
+CREATE INDEX IF NOT EXISTS idx_execution_history_user_time_id ON schedule_execution_history (user_id, execution_time DESC, id DESC);
+-- ScheduleExecutionHistoryRepository.findFirstByScheduleIdOrderByExecutionTimeDesc (SKIPPED compaction)
+CREATE INDEX IF NOT EXISTS idx_execution_history_schedule_time ON schedule_execution_history (schedule_id, execution_time DESC);
+-- Retention drops whole monthly partitions, so no execution_time index is needed here.
+
+-- ScheduleAuditEventRepository.findLatestByUser / findByUserBefore (keyset pagination)
+CREATE INDEX IF NOT EXISTS idx_schedule_audit_events_user_time_id ON schedule_audit_events (user_id, "timestamp" DESC, id DESC);
+-- Batched retention delete
+CREATE INDEX IF NOT EXISTS idx_schedule_audit_events_time ON schedule_audit_events ("timestamp");
+
+-- TeslaAccountAuditEventRepository.findTopByUserOrderByTimestampDesc
+CREATE INDEX IF NOT EXISTS idx_tesla_account_audit_events_user_time ON tesla_account_audit_events (user_id, "timestamp" DESC);
+
+-- TokenRepository.findByUser / findByUserOrderByCreatedAtDesc / findFirstByUserOrderByCreatedAtDesc / findByUserWithLockOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_tokens_user_created ON tokens (user_id, created_at DESC);
+-- TokenRepository.findByEmail
+CREATE INDEX IF NOT EXISTS idx_tokens_email ON tokens (email);
+
+-- ScheduleExecutionClaimRepository.deleteByFireTimeBefore
+CREATE INDEX IF NOT EXISTS idx_schedule_execution_claims_fire_time ON schedule_execution_claims (fire_time);
@@ -0,0 +1,25 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Store the entity JSON columns as jsonb.
+-- Why: Hibernate's ddl-auto creates these columns as TEXT and never changes the type of an existing column.
+-- Storing them as jsonb lets PostgreSQL validate and index the documents. Both attributes are mapped with
+-- @JdbcTypeCode(SqlTypes.JSON), so Hibernate binds the JsonMapConverter output as JSON, which either column type accepts.
+ALTER TABLE schedule_audit_events ALTER COLUMN details TYPE jsonb USING details::jsonb;
+ALTER TABLE users ALTER COLUMN profile_attributes TYPE jsonb USING profile_attributes::jsonb;
@@ -0,0 +1,46 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Fold the legacy powerwall_schedule_days collection table into the powerwall_schedules.days_of_week bit mask.
+-- Why: Keeping the days on the schedule row turns the per-minute load of enabled schedules into a single-table
+-- scan. Bit 0 is Monday and bit 6 is Sunday, matching DayOfWeekSetConverter. The legacy table holds either day
+-- names or ISO day numbers, so both spellings are accepted.
+-- A fresh database never had the legacy table, so it is created empty first to keep this script unconditional.
+CREATE TABLE IF NOT EXISTS powerwall_schedule_days (
+    schedule_id UUID NOT NULL,
+    day_of_week VARCHAR(255) NOT NULL
+);
+
+UPDATE powerwall_schedules s
+SET days_of_week = (
+    SELECT COALESCE(SUM(DISTINCT CASE UPPER(TRIM(d.day_of_week))
+        WHEN 'MONDAY' THEN 1 WHEN '1' THEN 1
+        WHEN 'TUESDAY' THEN 2 WHEN '2' THEN 2
+        WHEN 'WEDNESDAY' THEN 4 WHEN '3' THEN 4
+        WHEN 'THURSDAY' THEN 8 WHEN '4' THEN 8
+        WHEN 'FRIDAY' THEN 16 WHEN '5' THEN 16
+        WHEN 'SATURDAY' THEN 32 WHEN '6' THEN 32
+        WHEN 'SUNDAY' THEN 64 WHEN '7' THEN 64
+    END), 0)
+    FROM powerwall_schedule_days d
+    WHERE d.schedule_id = s.id
+)
+WHERE s.days_of_week = 0;
+
+DROP TABLE powerwall_schedule_days;
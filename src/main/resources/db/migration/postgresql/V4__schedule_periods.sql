@@ -0,0 +1,36 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Backfill the schedule_periods read model from the existing START_DISCHARGE / START_CHARGE event pairs.
+-- Why: Listing and reconciliation now read one schedule_periods row per schedule group. New periods are written by
+-- the schedule service in the same transaction as their events, so only groups created before this release need
+-- copying. Incomplete groups are skipped, as they were when the events were regrouped in memory.
+INSERT INTO schedule_periods (schedule_group_id, user_id, name, description, energy_site_id, days_of_week, time_zone,
+                              enabled, reconciliation_mode, start_time, end_time, on_peak_backup_percent,
+                              off_peak_backup_percent, created_at, updated_at)
+SELECT d.schedule_group_id, d.user_id, d.name, d.description, d.energy_site_id, d.days_of_week, d.time_zone,
+       d.enabled, d.reconciliation_mode, d.scheduled_time, c.scheduled_time, d.backup_percent,
+       c.backup_percent, d.created_at, d.updated_at
+FROM powerwall_schedules d
+JOIN powerwall_schedules c ON c.schedule_group_id = d.schedule_group_id AND c.event_type = 'START_CHARGE'
+WHERE d.event_type = 'START_DISCHARGE'
+  AND NOT EXISTS (SELECT 1 FROM schedule_periods p WHERE p.schedule_group_id = d.schedule_group_id);
+
+-- SchedulePeriodRepository.findAllByUserOrderByCreatedAtDesc (listing and every reconciliation run)
+CREATE INDEX IF NOT EXISTS idx_schedule_periods_user_created ON schedule_periods (user_id, created_at DESC);
@@ -0,0 +1,23 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+-- Drop the copies of the schedule's cron expression and description from the execution history.
+-- Why: Every row repeated them although entries reference their schedule by id, and nothing displays them.
+ALTER TABLE schedule_execution_history DROP COLUMN IF EXISTS cron_expression;
+ALTER TABLE schedule_execution_history DROP COLUMN IF EXISTS cron_description;
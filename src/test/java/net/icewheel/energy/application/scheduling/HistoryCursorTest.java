@@ -0,0 +1,44 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryCursorTest {
+
+	@Test
+	void encodedCursorDecodesToTheSamePosition() {
+		HistoryCursor cursor = new HistoryCursor(Instant.parse("2025-08-16T17:00:00.123456Z"), UUID.randomUUID());
+
+		assertThat(HistoryCursor.decode(cursor.encode())).contains(cursor);
+	}
+
+	@Test
+	void missingOrMalformedCursorStartsFromTheNewestEntry() {
+		assertThat(HistoryCursor.decode(null)).isEmpty();
+		assertThat(HistoryCursor.decode(" ")).isEmpty();
+		assertThat(HistoryCursor.decode("not-a-cursor")).isEmpty();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.application.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import net.icewheel.energy.application.scheduling.PowerwallScheduleExecutor.DueEvent;
+import net.icewheel.energy.config.StartupReconciliationConfig;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.domain.energy.model.ScheduleLastFired;
+import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MisfireHandlingServiceTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:30:00Z");
+
+	@Mock
+	private PowerwallStateReconciler stateReconciler;
+	@Mock
+	private PowerwallScheduleExecutor scheduleExecutor;
+	@Mock
+	private PowerwallScheduleRepository scheduleRepository;
+	@Mock
+	private ScheduleLastFiredRepository lastFiredRepository;
+
+	private final StartupReconciliationConfig config = new StartupReconciliationConfig();
+	private StartupReconciliationProgress progress;
+	private MisfireHandlingService service;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+		config.setGraceWindow(Duration.ofHours(6));
+		progress = new StartupReconciliationProgress(clock);
+		service = new MisfireHandlingService(stateReconciler, scheduleExecutor, scheduleRepository, lastFiredRepository,
+				new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.SPRING)), clock, config, progress);
+	}
+
+	@Test
+	@DisplayName("Should replay only the events missed since each schedule last fired, oldest first")
+	void replaysMissedEventsInOrder() {
+		PowerwallSchedule hourly = schedule("0 0 * * * ?");
+		PowerwallSchedule daily = schedule("0 15 9 * * ?");
+		daily.setCreatedAt(Instant.parse("2025-01-01T07:00:00Z"));
+		when(scheduleRepository.findAllEnabledWithUser()).thenReturn(List.of(hourly, daily));
+		when(lastFiredRepository.findAllById(anyList()))
+				.thenReturn(List.of(new ScheduleLastFired(hourly.getId(), Instant.parse("2025-01-01T08:00:00Z"))));
+
+		service.handleMisfiredSchedules();
+
+		InOrder replayOrder = inOrder(scheduleExecutor);
+		replayOrder.verify(scheduleExecutor).replayMissedEvent(hourly, Instant.parse("2025-01-01T09:00:00Z"));
+		// The daily schedule has never fired since it was created, which bounds the search.
+		replayOrder.verify(scheduleExecutor).replayMissedEvent(daily, Instant.parse("2025-01-01T09:15:00Z"));
+		replayOrder.verify(scheduleExecutor).replayMissedEvent(hourly, Instant.parse("2025-01-01T10:00:00Z"));
+		verifyNoMoreInteractions(scheduleExecutor);
+		verify(stateReconciler, never()).reconcileOnStartup();
+		assertThat(progress.getState()).isEqualTo(StartupReconciliationProgress.State.COMPLETED);
+		assertThat(progress.getProcessed()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Should not replay events older than the grace window")
+	void ignoresStaleEvents() {
+		config.setGraceWindow(Duration.ofMinutes(20));
+		PowerwallSchedule hourly = schedule("0 0 * * * ?");
+		when(scheduleRepository.findAllEnabledWithUser()).thenReturn(List.of(hourly));
+		when(lastFiredRepository.findAllById(anyList()))
+				.thenReturn(List.of(new ScheduleLastFired(hourly.getId(), Instant.parse("2025-01-01T06:00:00Z"))));
+
+		service.handleMisfiredSchedules();
+
+		verify(scheduleExecutor, never()).replayMissedEvent(any(), any());
+		assertThat(progress.getState()).isEqualTo(StartupReconciliationProgress.State.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("Should reconcile every user when a schedule older than the grace window has never been recorded as fired")
+	void reconcilesFullyWhenTheLedgerHasNoEntry() {
+		PowerwallSchedule hourly = schedule("0 0 * * * ?");
+		PowerwallSchedule untracked = schedule("0 15 9 * * ?");
+		untracked.setCreatedAt(Instant.parse("2024-12-01T00:00:00Z"));
+		when(scheduleRepository.findAllEnabledWithUser()).thenReturn(List.of(hourly, untracked));
+		when(lastFiredRepository.findAllById(anyList()))
+				.thenReturn(List.of(new ScheduleLastFired(hourly.getId(), Instant.parse("2025-01-01T10:00:00Z"))));
+
+		service.handleMisfiredSchedules();
+
+		verify(stateReconciler).reconcileOnStartup();
+		assertThat(progress.getState()).isEqualTo(StartupReconciliationProgress.State.COMPLETED);
+	}
+
+	@Test
+	@DisplayName("Should retry deferred events inside the grace window unless they are superseded")
+	void retriesDeferredEventsInsideTheGraceWindow() {
+		PowerwallSchedule pending = schedule("0 0 * * * ?");
+		pending.setEnabled(true);
+		PowerwallSchedule superseded = schedule("0 0 * * * ?");
+		superseded.setEnabled(true);
+		PowerwallSchedule disabled = schedule("0 0 * * * ?");
+		PowerwallSchedule stale = schedule("0 0 * * * ?");
+		stale.setEnabled(true);
+		DueEvent pendingEvent = new DueEvent(pending, Instant.parse("2025-01-01T10:29:00Z"));
+		when(scheduleExecutor.takeDeferredEvents()).thenReturn(List.of(
+				new DueEvent(stale, Instant.parse("2025-01-01T04:00:00Z")),
+				new DueEvent(superseded, Instant.parse("2025-01-01T10:00:00Z")),
+				new DueEvent(disabled, Instant.parse("2025-01-01T10:00:00Z")),
+				pendingEvent));
+		when(scheduleRepository.findAllById(anyList())).thenReturn(List.of(pending, superseded, disabled, stale));
+		when(lastFiredRepository.findAllById(anyList()))
+				.thenReturn(List.of(new ScheduleLastFired(superseded.getId(), Instant.parse("2025-01-01T10:15:00Z"))));
+
+		service.retryDeferredEvents();
+
+		verify(scheduleExecutor).retryDeferredEvents(List.of(pendingEvent));
+	}
+
+	private PowerwallSchedule schedule(String cronExpression) {
+		PowerwallSchedule schedule = new PowerwallSchedule();
+		schedule.setId(UUID.randomUUID());
+		schedule.setName("schedule " + cronExpression);
+		schedule.setCronExpression(cronExpression);
+		schedule.setTimeZone(ZoneId.of("UTC"));
+		return schedule;
+	}
+}
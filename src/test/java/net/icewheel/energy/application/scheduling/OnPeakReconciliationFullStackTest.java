@@ -42,8 +42,10 @@ import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -83,6 +85,8 @@ class OnPeakReconciliationFullStackTest {
 
 	@Autowired
 	private PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private SchedulePeriodRepository periodRepository;
 
 	@Autowired
 	private UserRepository userRepository;
@@ -121,6 +125,7 @@ class OnPeakReconciliationFullStackTest {
 
 	@BeforeEach
 	void setUp() {
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		userRepository.deleteAll();
 
@@ -245,5 +250,6 @@ class OnPeakReconciliationFullStackTest {
 		offPeak.setCronExpression(String.format("0 %d %d ? * %s", offPeakTime.getMinute(), offPeakTime.getHour(), cronDays));
 
 		scheduleRepository.saveAll(List.of(onPeak, offPeak));
+		periodRepository.save(SchedulePeriod.of(onPeak, offPeak));
 	}
 }
@@ -39,8 +39,10 @@ import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.auth.TokenService;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +77,8 @@ class OnPeakReconciliationScenarioIT {
 
 	@Autowired
 	private PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private SchedulePeriodRepository periodRepository;
 
 	@Autowired
 	private UserRepository userRepository;
@@ -103,6 +107,7 @@ class OnPeakReconciliationScenarioIT {
 
 	@BeforeEach
 	void setUp() {
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		userRepository.deleteAll();
 
@@ -209,5 +214,6 @@ class OnPeakReconciliationScenarioIT {
 		offPeak.setCronExpression(String.format("0 %d %d ? * %s", offPeakTime.getMinute(), offPeakTime.getHour(), cronDays));
 
 		scheduleRepository.saveAll(List.of(onPeak, offPeak));
+		periodRepository.save(SchedulePeriod.of(onPeak, offPeak));
 	}
 }
\ No newline at end of file
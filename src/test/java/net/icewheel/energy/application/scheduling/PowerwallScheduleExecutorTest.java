@@ -0,0 +1,187 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.application.scheduling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.cronutils.model.CronType;
+import com.cronutils.model.definition.CronDefinitionBuilder;
+import com.cronutils.parser.CronParser;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.icewheel.energy.application.scheduling.PowerwallScheduleExecutor.DueEvent;
+import net.icewheel.energy.application.scheduling.PowerwallScheduleExecutor.SiteCommand;
+import net.icewheel.energy.config.ScheduleExecutionConfig;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
+import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionClaimRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
+import net.icewheel.energy.infrastructure.vendors.tesla.budget.TeslaCallBudgetExceededException;
+import net.icewheel.energy.infrastructure.vendors.tesla.services.LastKnownSiteStateStore;
+import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PowerwallScheduleExecutorTest {
+
+	private static final Instant FIRE_TIME = Instant.parse("2025-01-01T12:00:00Z");
+
+	@Mock
+	private PowerwallScheduleRepository scheduleRepository;
+	@Mock
+	private ScheduleExecutionHistoryRepository historyRepository;
+	@Mock
+	private ScheduleLastFiredRepository lastFiredRepository;
+	@Mock
+	private ScheduleExecutionClaimRepository claimRepository;
+	@Mock
+	private TeslaEnergyService teslaEnergyService;
+
+	private final ScheduleExecutionConfig config = new ScheduleExecutionConfig();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("Should send the first commands at once and spread the rest evenly across the window")
+	void spreadsCommandsAcrossTheWindow() {
+		config.setImmediateDispatchLimit(2);
+		config.setDispatchWindow(Duration.ofSeconds(30));
+		PowerwallScheduleExecutor executor = executor(Clock.fixed(FIRE_TIME, ZoneOffset.UTC));
+
+		assertThat(IntStream.range(0, 5).mapToObj(i -> executor.plannedOffset(i, 5)))
+				.containsExactly(Duration.ZERO, Duration.ZERO, Duration.ofSeconds(10), Duration.ofSeconds(20),
+						Duration.ofSeconds(30));
+
+		config.setDispatchWindow(Duration.ZERO);
+		assertThat(executor.plannedOffset(4, 5)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	@DisplayName("Should dispatch the earliest deadline first, then on-peak commands, and otherwise keep the claim order")
+	void ordersByDeadlineThenOnPeak() {
+		List<DueEvent> offPeakA = List.of(event("site-a", ScheduleEventType.START_CHARGE, FIRE_TIME));
+		List<DueEvent> onPeakB = List.of(event("site-b", ScheduleEventType.START_DISCHARGE, FIRE_TIME));
+		List<DueEvent> offPeakC = List.of(event("site-c", ScheduleEventType.START_CHARGE, FIRE_TIME));
+		List<DueEvent> mixedD = List.of(event("site-d", ScheduleEventType.START_CHARGE, FIRE_TIME),
+				event("site-d", ScheduleEventType.START_DISCHARGE, FIRE_TIME));
+		List<DueEvent> earlierOffPeakE = List.of(event("site-e", ScheduleEventType.START_CHARGE, FIRE_TIME.minusSeconds(60)));
+
+		List<SiteCommand> commands = PowerwallScheduleExecutor.inDispatchOrder(
+				List.of(offPeakA, onPeakB, offPeakC, mixedD, earlierOffPeakE), Duration.ofSeconds(30));
+
+		assertThat(commands)
+				.extracting(command -> command.siteSchedules().getFirst().getEnergySiteId())
+				.containsExactly("site-e", "site-b", "site-d", "site-a", "site-c");
+		assertThat(commands.getFirst().deadline()).isEqualTo(FIRE_TIME.minusSeconds(30));
+	}
+
+	@Test
+	@DisplayName("Should record how long after the minute boundary a regular command was dispatched")
+	void recordsDispatchOffset() {
+		PowerwallScheduleExecutor executor = executor(Clock.fixed(FIRE_TIME.plusMillis(500), ZoneOffset.UTC));
+		PowerwallSchedule schedule = schedule("site-a", ScheduleEventType.START_DISCHARGE);
+		when(scheduleRepository.findAllEnabledWithUser()).thenReturn(List.of(schedule));
+		when(claimRepository.claim(any(), eq(FIRE_TIME), any())).thenReturn(1);
+		when(teslaEnergyService.setBackupReserve(anyString(), anyString(), anyInt())).thenReturn(true);
+
+		executor.executeSchedules();
+		executor.replayMissedEvent(schedule, FIRE_TIME);
+
+		// Both the regular and the replayed event send a command, but only the regular one is measured.
+		verify(teslaEnergyService, times(2)).setBackupReserve("user-1", "site-a", 20);
+		Timer dispatchOffset = registry.get("icewheel.scheduler.dispatch.offset").timer();
+		assertThat(dispatchOffset.count()).isEqualTo(1);
+		assertThat(dispatchOffset.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+	}
+
+	@Test
+	@DisplayName("Should defer a command the call budget could not admit instead of recording the event as fired")
+	void defersCommandsBeyondTheCallBudget() {
+		PowerwallScheduleExecutor executor = executor(Clock.fixed(FIRE_TIME, ZoneOffset.UTC));
+		PowerwallSchedule schedule = schedule("site-a", ScheduleEventType.START_DISCHARGE);
+		when(scheduleRepository.findAllEnabledWithUser()).thenReturn(List.of(schedule));
+		when(claimRepository.claim(any(), eq(FIRE_TIME), any())).thenReturn(1);
+		when(teslaEnergyService.setBackupReserve(anyString(), anyString(), anyInt()))
+				.thenThrow(new TeslaCallBudgetExceededException("No capacity"));
+
+		executor.executeSchedules();
+
+		ArgumentCaptor<ScheduleExecutionHistory> history = ArgumentCaptor.forClass(ScheduleExecutionHistory.class);
+		verify(historyRepository).save(history.capture());
+		assertThat(history.getValue().getStatus()).isEqualTo(ScheduleExecutionHistory.ExecutionStatus.FAILURE);
+		assertThat(history.getValue().getOutcome()).isEqualTo(ScheduleExecutionHistory.Outcome.SCHEDULE_DEFERRED);
+		verify(claimRepository).release(schedule.getId(), FIRE_TIME);
+		verify(lastFiredRepository, never()).advance(any(), any());
+		assertThat(executor.takeDeferredEvents()).containsExactly(new DueEvent(schedule, FIRE_TIME));
+		assertThat(executor.takeDeferredEvents()).isEmpty();
+	}
+
+	private PowerwallScheduleExecutor executor(Clock clock) {
+		return new PowerwallScheduleExecutor(scheduleRepository, historyRepository, lastFiredRepository, claimRepository,
+				teslaEnergyService, new LastKnownSiteStateStore(clock), config,
+				new CronParser(CronDefinitionBuilder.instanceDefinitionFor(CronType.SPRING)), clock, registry);
+	}
+
+	private static DueEvent event(String energySiteId, ScheduleEventType eventType, Instant fireTime) {
+		return new DueEvent(schedule(energySiteId, eventType), fireTime);
+	}
+
+	private static PowerwallSchedule schedule(String energySiteId, ScheduleEventType eventType) {
+		User user = new User();
+		user.setId("user-1");
+		PowerwallSchedule schedule = new PowerwallSchedule();
+		schedule.setId(UUID.randomUUID());
+		schedule.setUser(user);
+		schedule.setName(eventType + " " + energySiteId);
+		schedule.setEnergySiteId(energySiteId);
+		schedule.setEventType(eventType);
+		schedule.setBackupPercent(20);
+		schedule.setCronExpression("0 0 12 * * ?");
+		schedule.setTimeZone(ZoneId.of("UTC"));
+		return schedule;
+	}
+}
@@ -22,6 +22,7 @@ package net.icewheel.energy.application.scheduling;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -39,9 +40,12 @@ import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
 import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
+import net.icewheel.energy.infrastructure.cache.CacheInvalidationBus;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleAuditEventRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.Product;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,8 +56,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.transaction.support.TransactionOperations;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,13 +76,19 @@ class PowerwallScheduleServiceImplTest {
 	@Mock
 	private PowerwallScheduleRepository scheduleRepository;
 	@Mock
+	private SchedulePeriodRepository periodRepository;
+	@Mock
 	private ScheduleExecutionHistoryRepository historyRepository;
 	@Mock
 	private ScheduleAuditEventRepository auditEventRepository;
 	@Mock
 	private Validator validator;
 	@Mock
+	private CacheInvalidationBus invalidationBus;
+	@Mock
 	private TeslaEnergyService teslaEnergyService;
+	@Spy
+	private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
 
 	@InjectMocks
 	private PowerwallScheduleServiceImpl scheduleService;
@@ -98,27 +111,26 @@ class PowerwallScheduleServiceImplTest {
 	class ExportSchedulesTests {
 
 		@Test
-		@DisplayName("Should correctly map schedules for export and exclude sensitive data")
-		void getSchedulesForExport_Success() {
+		@DisplayName("Should stream each schedule for export and exclude sensitive data")
+		void exportSchedules_StreamsEachSchedule() {
 			// Given
-			ScheduleResponse scheduleResponse = createTestScheduleResponse("12345");
-			when(scheduleRepository.findAllByUser(testUser)).thenReturn(createTestScheduleList(scheduleResponse.getEnergySiteId()));
+			when(periodRepository.streamAllByUserOrderByCreatedAtDesc(testUser)).thenReturn(createTestPeriodList("12345").stream());
+			List<ScheduleRequest> exported = new ArrayList<>();
 
 			// When
-			List<ScheduleRequest> exportData = scheduleService.getSchedulesForExport(testUser);
+			scheduleService.exportSchedules(testUser, exported::add);
 
 			// Then
-			assertThat(exportData).hasSize(1);
-			ScheduleRequest exportedRequest = exportData.getFirst();
-
-			// Crucial Security Check: Ensure environment-specific and user-specific data is NOT exported.
-			assertThat(exportedRequest.getId()).isNull();
-			assertThat(exportedRequest.getEnergySiteId()).isNull();
-
-			// Verify other fields are mapped correctly
-			assertThat(exportedRequest.getName()).isEqualTo("Existing Schedule");
-			assertThat(exportedRequest.getOnPeakBackupPercent()).isEqualTo(25);
-			assertThat(exportedRequest.getOffPeakBackupPercent()).isEqualTo(75);
+			assertThat(exported).singleElement().satisfies(request -> {
+				// Crucial Security Check: Ensure environment-specific and user-specific data is NOT exported.
+				assertThat(request.getId()).isNull();
+				assertThat(request.getEnergySiteId()).isNull();
+
+				// Verify other fields are mapped correctly
+				assertThat(request.getName()).isEqualTo("Existing Schedule");
+				assertThat(request.getOnPeakBackupPercent()).isEqualTo(25);
+				assertThat(request.getOffPeakBackupPercent()).isEqualTo(75);
+			});
 		}
 	}
 
@@ -132,7 +144,7 @@ class PowerwallScheduleServiceImplTest {
 			// Given
 			ScheduleRequest requestToImport = createTestScheduleRequest();
 			when(teslaEnergyService.getSchedulableEnergySites(testUser.getId())).thenReturn(List.of(testProduct));
-			when(scheduleRepository.findAllByUser(testUser)).thenReturn(Collections.emptyList());
+			when(periodRepository.findAllByUserOrderByCreatedAtDesc(testUser)).thenReturn(Collections.emptyList());
 			when(validator.validate(any(ScheduleRequest.class))).thenReturn(Collections.emptySet());
 
 			// When
@@ -144,6 +156,7 @@ class PowerwallScheduleServiceImplTest {
 			assertThat(result.getSkippedDuplicateNames()).isEmpty();
 			assertThat(result.getSkippedDuplicateContent()).isEmpty();
 			verify(scheduleRepository).saveAll(anyList());
+			verify(periodRepository).save(any(SchedulePeriod.class));
 
 			ArgumentCaptor<ScheduleAuditEvent> auditCaptor = ArgumentCaptor.forClass(ScheduleAuditEvent.class);
 			verify(auditEventRepository).save(auditCaptor.capture());
@@ -174,7 +187,7 @@ class PowerwallScheduleServiceImplTest {
 			newRequest.setName("New Schedule"); // This one should be imported
 
 			when(teslaEnergyService.getSchedulableEnergySites(testUser.getId())).thenReturn(List.of(testProduct));
-			when(scheduleRepository.findAllByUser(testUser)).thenReturn(createTestScheduleList("12345")); // Simulate existing schedules
+			when(periodRepository.findAllByUserOrderByCreatedAtDesc(testUser)).thenReturn(createTestPeriodList("12345")); // Simulate existing schedules
 			when(validator.validate(any(ScheduleRequest.class))).thenReturn(Collections.emptySet());
 
 			// When
@@ -206,7 +219,7 @@ class PowerwallScheduleServiceImplTest {
 			contentDuplicateRequest.setOffPeakBackupPercent(75);
 
 			when(teslaEnergyService.getSchedulableEnergySites(testUser.getId())).thenReturn(List.of(testProduct));
-			when(scheduleRepository.findAllByUser(testUser)).thenReturn(createTestScheduleList("12345")); // Simulate existing schedules
+			when(periodRepository.findAllByUserOrderByCreatedAtDesc(testUser)).thenReturn(createTestPeriodList("12345")); // Simulate existing schedules
 
 			// When
 			ImportResult result = scheduleService.importSchedules(List.of(contentDuplicateRequest), testUser);
@@ -225,7 +238,7 @@ class PowerwallScheduleServiceImplTest {
 			requestToImport.setOnPeakBackupPercent(999); // Invalid value
 
 			when(teslaEnergyService.getSchedulableEnergySites(testUser.getId())).thenReturn(List.of(testProduct));
-			when(scheduleRepository.findAllByUser(testUser)).thenReturn(Collections.emptyList());
+			when(periodRepository.findAllByUserOrderByCreatedAtDesc(testUser)).thenReturn(Collections.emptyList());
 
 			// Mock the validator to return a violation
 			@SuppressWarnings("unchecked")
@@ -338,4 +351,9 @@ class PowerwallScheduleServiceImplTest {
 
 		return List.of(start, end);
 	}
-}
\ No newline at end of file
+
+	private List<SchedulePeriod> createTestPeriodList(String energySiteId) {
+		List<PowerwallSchedule> events = createTestScheduleList(energySiteId);
+		return List.of(SchedulePeriod.of(events.get(0), events.get(1)));
+	}
+}
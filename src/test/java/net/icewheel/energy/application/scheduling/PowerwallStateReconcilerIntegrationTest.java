@@ -26,6 +26,7 @@ import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,10 +36,13 @@ import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.domain.energy.model.ScheduleEventType;
 import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
+import net.javacrumbs.shedlock.core.LockProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -95,6 +99,16 @@ class PowerwallStateReconcilerIntegrationTest {
 			when(mockService.setBackupReserve(anyString(), anyString(), anyInt())).thenReturn(true);
 			return mockService;
 		}
+
+		/**
+		 * Why: {@code reconcileContinuously()} holds its ShedLock lock for at least a minute, so on the shared
+		 * lock table every call after the first (in this test or a later one) would be skipped silently.
+		 */
+		@Bean
+		@Primary
+		public LockProvider noOpLockProvider() {
+			return lockConfiguration -> Optional.of(() -> { });
+		}
 	}
 
 	@Autowired
@@ -102,6 +116,8 @@ class PowerwallStateReconcilerIntegrationTest {
 
 	@Autowired
 	private PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private SchedulePeriodRepository periodRepository;
 
 	@Autowired
 	private UserRepository userRepository;
@@ -118,6 +134,7 @@ class PowerwallStateReconcilerIntegrationTest {
 	@BeforeEach
 	void setUp() {
 		historyRepository.deleteAll();
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		userRepository.deleteAll();
 
@@ -158,6 +175,30 @@ class PowerwallStateReconcilerIntegrationTest {
 		assertThat(record.getDetails()).isEqualTo(expectedDetails);
 	}
 
+	/**
+	 * Verifies that repeated checks that find the state already correct are folded into one history entry.
+	 */
+	@Test
+	void reconcile_whenStateMatchesRepeatedly_compactsSkippedHistory() {
+		// Given: An active on-peak schedule whose state keeps matching.
+		int onPeakPercent = 80;
+		createScheduleGroup(true, onPeakPercent, 20, LocalTime.of(12, 0), LocalTime.of(18, 0));
+		when(teslaEnergyService.getBackupReservePercent(anyString(), anyString())).thenReturn(onPeakPercent);
+
+		// When: The reconciliation job runs three times.
+		reconciler.reconcileContinuously();
+		reconciler.reconcileContinuously();
+		reconciler.reconcileContinuously();
+
+		// Then: A single SKIPPED entry stands for all three checks.
+		List<ScheduleExecutionHistory> history = historyRepository.findAll();
+		assertThat(history).hasSize(1);
+		ScheduleExecutionHistory record = history.get(0);
+		assertThat(record.getStatus()).isEqualTo(ScheduleExecutionHistory.ExecutionStatus.SKIPPED);
+		assertThat(record.getOccurrences()).isEqualTo(3);
+		assertThat(record.getLastSeenAt()).isNotNull();
+	}
+
 	/**
 	 * Verifies that if the Powerwall's state is incorrect during an on-peak period,
 	 * the reconciler detects the mismatch, corrects the state, and logs a SUCCESS event.
@@ -379,6 +420,7 @@ class PowerwallStateReconcilerIntegrationTest {
 		offPeak.setCronExpression(String.format("0 %d %d ? * %s", endTime.getMinute(), endTime.getHour(), formatDaysForCron(days)));
 
 		scheduleRepository.saveAll(List.of(onPeak, offPeak));
+		periodRepository.save(SchedulePeriod.of(onPeak, offPeak));
 	}
 
 	private String formatDaysForCron(Set<DayOfWeek> days) {
@@ -35,6 +35,7 @@ import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.ReconciliationMode;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
 import net.icewheel.energy.infrastructure.vendors.tesla.dto.Product;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import org.junit.jupiter.api.BeforeEach;
@@ -86,6 +87,8 @@ class ScheduleCreationAndReconciliationE2ETest {
 
 	@Autowired
 	private PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private SchedulePeriodRepository periodRepository;
 
 	@Autowired
 	private UserRepository userRepository;
@@ -108,6 +111,7 @@ class ScheduleCreationAndReconciliationE2ETest {
 
 	@BeforeEach
 	void setUp() {
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		userRepository.deleteAll();
 
@@ -149,6 +153,7 @@ class ScheduleCreationAndReconciliationE2ETest {
 
 		// AND: The schedule now exists in the database.
 		assertThat(scheduleRepository.count()).isEqualTo(2);
+		assertThat(periodRepository.count()).isEqualTo(1);
 
 		// AND: It's after 7 AM, but the Powerwall is still at the old off-peak setting.
 		int incorrectOffPeakPercent = 80;
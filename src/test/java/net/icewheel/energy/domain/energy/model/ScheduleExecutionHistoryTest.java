@@ -0,0 +1,72 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.domain.energy.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleExecutionHistoryTest {
+
+	@Test
+	void rendersExecutionOutcomeIncludingCombinedSchedules() {
+		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
+		history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED);
+		history.setOnPeak(true);
+		history.setTargetPercent((short) 20);
+		history.setCombinedCount((short) 1);
+
+		assertThat(history.getDetails()).isEqualTo(
+				"Successfully triggered 'start discharging (on-peak)' action. Set backup reserve to 20%. Combined with 1 other schedule(s) due on this site.");
+	}
+
+	@Test
+	void rendersExecutionErrorFromStoredMessage() {
+		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
+		history.setOutcome(ScheduleExecutionHistory.Outcome.SCHEDULE_ERROR);
+		history.setOnPeak(false);
+		history.setTargetPercent((short) 80);
+		history.setCombinedCount((short) 0);
+		history.setErrorMessage("Timed out (ResourceAccessException)");
+
+		assertThat(history.getDetails()).isEqualTo(
+				"Execution failed for 'start charging (off-peak)'. Error: Timed out (ResourceAccessException)");
+	}
+
+	@Test
+	void rendersReconciliationOutcomeWithScheduleName() {
+		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
+		history.setScheduleName("Evening Peak");
+		history.setOutcome(ScheduleExecutionHistory.Outcome.RECONCILIATION_ALREADY_SET);
+		history.setOnPeak(false);
+		history.setTargetPercent((short) 100);
+
+		assertThat(history.getDetails()).isEqualTo(
+				"Automatic check during an off-peak period for schedule 'Evening Peak'. The Powerwall's backup reserve is already correctly set to 100%. No action was needed.");
+	}
+
+	@Test
+	void returnsStoredTextForLegacyEntries() {
+		ScheduleExecutionHistory history = new ScheduleExecutionHistory();
+		history.setDetails("Legacy text");
+
+		assertThat(history.getDetails()).isEqualTo("Legacy text");
+	}
+}
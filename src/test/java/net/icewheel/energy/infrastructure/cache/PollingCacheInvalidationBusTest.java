@@ -0,0 +1,94 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import net.icewheel.energy.config.CacheInvalidationConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollingCacheInvalidationBusTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private PollingCacheInvalidationBus first;
+	private PollingCacheInvalidationBus second;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:cache-invalidation-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("CREATE TABLE cache_invalidation_events (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+				+ "region VARCHAR(64) NOT NULL, entity_key VARCHAR(255), origin VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL)");
+		CacheInvalidationConfig config = new CacheInvalidationConfig();
+		config.setEnabled(true);
+		config.setPollInterval(Duration.ofMillis(20));
+		first = new PollingCacheInvalidationBus(config, jdbcTemplate, Clock.systemUTC());
+		second = new PollingCacheInvalidationBus(config, jdbcTemplate, Clock.systemUTC());
+	}
+
+	@AfterEach
+	void tearDown() {
+		first.stop();
+		second.stop();
+	}
+
+	@Test
+	void deliversEventsToOtherInstancesOnly() throws InterruptedException {
+		List<CacheInvalidation> receivedByFirst = new CopyOnWriteArrayList<>();
+		List<CacheInvalidation> receivedBySecond = new CopyOnWriteArrayList<>();
+		first.subscribe(receivedByFirst::add);
+		second.subscribe(receivedBySecond::add);
+		first.start();
+		second.start();
+		// Let both receivers record the starting position before anything is published.
+		Thread.sleep(200);
+
+		first.publish(CacheRegions.USERS, "user-1");
+		first.publish(CacheRegions.KEYPAIRS, null);
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		while (receivedBySecond.size() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(receivedBySecond).containsExactly(
+				new CacheInvalidation(CacheRegions.USERS, "user-1"),
+				new CacheInvalidation(CacheRegions.KEYPAIRS, null));
+		assertThat(receivedByFirst).isEmpty();
+	}
+
+	@Test
+	void publishesNothingWhenDisabled() {
+		CacheInvalidationConfig disabled = new CacheInvalidationConfig();
+		new PollingCacheInvalidationBus(disabled, jdbcTemplate, Clock.systemUTC()).publish(CacheRegions.USERS, "user-1");
+
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM cache_invalidation_events", Long.class)).isZero();
+	}
+}
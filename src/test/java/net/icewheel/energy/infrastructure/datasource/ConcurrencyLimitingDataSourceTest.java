@@ -0,0 +1,103 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTest {
+
+	private final DataSource target = mock(DataSource.class);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("Should hold a permit until the connection is closed, and release it only once")
+	void permitHeldUntilClose() throws SQLException {
+		Connection pooled = mock(Connection.class);
+		when(target.getConnection()).thenReturn(pooled);
+		ConcurrencyLimitingDataSource dataSource = limited(2, Duration.ofSeconds(1));
+
+		Connection first = dataSource.getConnection();
+		Connection second = dataSource.getConnection();
+		assertThat(availablePermits()).isZero();
+
+		first.close();
+		first.close();
+		assertThat(availablePermits()).isEqualTo(1);
+		verify(pooled, times(2)).close();
+
+		second.close();
+		assertThat(availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Should time out when every permit is in use")
+	void timesOutWhenExhausted() throws SQLException {
+		when(target.getConnection()).thenReturn(mock(Connection.class));
+		ConcurrencyLimitingDataSource dataSource = limited(1, Duration.ofMillis(50));
+		Connection held = dataSource.getConnection();
+
+		assertThatThrownBy(dataSource::getConnection)
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.hasMessageContaining("one of 1 database concurrency permits");
+		assertThat(registry.get("icewheel.datasource.permit.wait").timer().count()).isEqualTo(2);
+
+		held.close();
+		assertThat(dataSource.getConnection()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("Should release the permit when the pool fails to hand out a connection")
+	void releasesPermitWhenTargetThrows() throws SQLException {
+		when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+		when(target.getConnection("user", "secret")).thenThrow(new IllegalStateException("closed"));
+		ConcurrencyLimitingDataSource dataSource = limited(1, Duration.ofMillis(50));
+
+		assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+		assertThatThrownBy(() -> dataSource.getConnection("user", "secret")).hasMessage("closed");
+		assertThat(availablePermits()).isEqualTo(1);
+	}
+
+	private ConcurrencyLimitingDataSource limited(int maxConcurrent, Duration acquireTimeout) {
+		ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, maxConcurrent, acquireTimeout);
+		dataSource.bindTo(registry);
+		return dataSource;
+	}
+
+	private double availablePermits() {
+		return registry.get("icewheel.datasource.permit.available").gauge().value();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaDataSourceTest {
+
+	private final DataSource primary = database("primary");
+	private final DataSource firstReplica = database("replica-1");
+	private final DataSource secondReplica = database("replica-2");
+	private final Map<DataSource, Duration> lags = new HashMap<>();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void setUp() {
+		lags.put(firstReplica, Duration.ZERO);
+		lags.put(secondReplica, Duration.ZERO);
+	}
+
+	@Test
+	void usesPrimaryUntilReplicaLagHasBeenMeasured() throws SQLException {
+		ReplicaDataSource dataSource = replicas(firstReplica);
+
+		assertThat(servedBy(dataSource)).isEqualTo("primary");
+	}
+
+	@Test
+	void alternatesBetweenReplicasWithinTheLagLimit() throws SQLException {
+		ReplicaDataSource dataSource = replicas(firstReplica, secondReplica);
+		dataSource.checkLag();
+
+		assertThat(List.of(servedBy(dataSource), servedBy(dataSource), servedBy(dataSource)))
+				.containsExactly("replica-1", "replica-2", "replica-1");
+		assertThat(registry.get("icewheel.datasource.route").tag("route", "replica-1").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void fallsBackToPrimaryWhileReplicaLagsBehind() throws SQLException {
+		ReplicaDataSource dataSource = replicas(firstReplica);
+		lags.put(firstReplica, Duration.ofSeconds(30));
+		dataSource.checkLag();
+
+		assertThat(servedBy(dataSource)).isEqualTo("primary");
+		assertThat(registry.get("icewheel.datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isEqualTo(30);
+
+		lags.put(firstReplica, Duration.ofMillis(100));
+		dataSource.checkLag();
+
+		assertThat(servedBy(dataSource)).isEqualTo("replica-1");
+	}
+
+	@Test
+	void skipsReplicaThatCannotBeReached() throws SQLException {
+		DataSource unreachable = mock(DataSource.class);
+		when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+		lags.put(unreachable, Duration.ZERO);
+		ReplicaDataSource dataSource = replicas(unreachable, secondReplica);
+		dataSource.checkLag();
+
+		assertThat(List.of(servedBy(dataSource), servedBy(dataSource))).containsExactly("replica-2", "replica-2");
+		assertThat(registry.get("icewheel.datasource.replica.usable").tag("replica", "replica-1").gauge().value()).isZero();
+	}
+
+	private ReplicaDataSource replicas(DataSource... dataSources) {
+		List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+		for (int i = 0; i < dataSources.length; i++) {
+			replicas.add(new ReplicaDataSource.Replica("replica-" + (i + 1), dataSources[i]));
+		}
+		ReplicaDataSource dataSource = new ReplicaDataSource(primary, replicas, Duration.ofSeconds(5)) {
+			@Override
+			Duration measureLag(DataSource replica) {
+				return lags.get(replica);
+			}
+		};
+		dataSource.bindTo(registry);
+		return dataSource;
+	}
+
+	/**
+	 * Each database is a separate in-memory H2 instance whose name tells which one served a connection.
+	 */
+	private static DataSource database(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+	private static String servedBy(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			String url = connection.getMetaData().getURL();
+			return url.substring("jdbc:h2:mem:".length(), url.indexOf('_'));
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StartupReconciliationHealthGroupsTest {
+
+	@Test
+	@DisplayName("Should keep the startup reconciliation out of the primary group but in readiness")
+	void readinessOnly() {
+		HealthEndpointGroup primary = mock(HealthEndpointGroup.class);
+		when(primary.isMember("db")).thenReturn(true);
+		when(primary.isMember(StartupReconciliationHealthIndicator.NAME)).thenReturn(true);
+		HealthEndpointGroup readiness = mock(HealthEndpointGroup.class);
+
+		HealthEndpointGroups groups = new StartupReconciliationHealthGroups()
+				.postProcessHealthEndpointGroups(HealthEndpointGroups.of(primary, Map.of("readiness", readiness)));
+
+		assertThat(groups.getPrimary().isMember("db")).isTrue();
+		assertThat(groups.getPrimary().isMember(StartupReconciliationHealthIndicator.NAME)).isFalse();
+		assertThat(groups.getNames()).containsExactly("readiness");
+		assertThat(groups.get("readiness")).isSameAs(readiness);
+	}
+}
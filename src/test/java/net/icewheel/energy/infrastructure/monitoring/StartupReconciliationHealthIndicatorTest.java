@@ -0,0 +1,74 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import net.icewheel.energy.application.scheduling.StartupReconciliationProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupReconciliationHealthIndicatorTest {
+
+	private final StartupReconciliationProgress progress =
+			new StartupReconciliationProgress(Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+	private final StartupReconciliationHealthIndicator indicator = new StartupReconciliationHealthIndicator(progress);
+
+	@Test
+	@DisplayName("Should hold readiness back until the startup reconciliation finishes")
+	void outOfServiceWhileRunning() {
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+		progress.start("catch-up", 2);
+		progress.itemProcessed(true);
+
+		Health health = indicator.health();
+		assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+		assertThat(health.getDetails())
+				.containsEntry("state", StartupReconciliationProgress.State.RUNNING)
+				.containsEntry("phase", "catch-up")
+				.containsEntry("total", 2)
+				.containsEntry("processed", 1);
+	}
+
+	@Test
+	@DisplayName("Should report UP once the run completes, is skipped or fails")
+	void upWhenFinished() {
+		progress.start("catch-up", 1);
+		progress.itemProcessed(false);
+		progress.complete();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.health().getDetails()).containsEntry("failed", 1);
+
+		progress.skip();
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+
+		progress.fail(new IllegalStateException("boom"));
+		assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+		assertThat(indicator.health().getDetails()).containsEntry("error", "boom");
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.infrastructure.monitoring;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import net.icewheel.energy.config.DatabaseConcurrencyConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final DatabaseConcurrencyConfig config = new DatabaseConcurrencyConfig();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(config, registry);
+
+	@Test
+	@DisplayName("Should not open a JFR stream when the monitor is disabled")
+	void disabled() {
+		config.setPinningMonitorEnabled(false);
+
+		monitor.start();
+
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should start and stop the JFR stream with the application")
+	void lifecycle() {
+		monitor.start();
+		assertThat(monitor.isRunning()).isTrue();
+
+		monitor.stop();
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should count and time each pinning event")
+	void recordsPinnedEvents() {
+		RecordedThread thread = mock(RecordedThread.class);
+		when(thread.getJavaName()).thenReturn("scheduler-1");
+		RecordedEvent event = mock(RecordedEvent.class);
+		when(event.getDuration()).thenReturn(Duration.ofMillis(75));
+		when(event.getThread()).thenReturn(thread);
+
+		monitor.onPinned(event);
+		monitor.onPinned(event);
+
+		assertThat(registry.get("icewheel.virtual-threads.pinned").counter().count()).isEqualTo(2);
+		assertThat(registry.get("icewheel.virtual-threads.pinned.duration").timer().totalTime(TimeUnit.MILLISECONDS))
+				.isEqualTo(150);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.retention;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchedDeleterTest {
+
+	private static final Instant CUTOFF = Instant.parse("2025-01-01T00:00:00Z");
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:batched-deleter-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("CREATE TABLE history (id UUID PRIMARY KEY, execution_time TIMESTAMP WITH TIME ZONE NOT NULL)");
+		for (int i = 0; i < 25; i++) {
+			insert(CUTOFF.minusSeconds(60L * (i + 1)));
+		}
+		for (int i = 0; i < 5; i++) {
+			insert(CUTOFF.plusSeconds(60L * i));
+		}
+	}
+
+	@Test
+	void deletesOnlyRowsBeforeTheCutoffAcrossSeveralBatches() {
+		long deleted = new BatchedDeleter(jdbcTemplate, 10).deleteBefore("history", "execution_time", CUTOFF);
+
+		assertThat(deleted).isEqualTo(25);
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM history", Long.class)).isEqualTo(5);
+		assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM history WHERE execution_time < ?", Long.class,
+				Timestamp.from(CUTOFF))).isZero();
+	}
+
+	private void insert(Instant executionTime) {
+		jdbcTemplate.update("INSERT INTO history (id, execution_time) VALUES (?, ?)", UUID.randomUUID(), Timestamp.from(executionTime));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+
+package net.icewheel.energy.infrastructure.scheduling;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import net.icewheel.energy.integration.IsolatedDatabaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.scheduling.config.TaskSchedulerRouter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that every {@code @Scheduled} method is routed to the scheduler lane it is meant to run on.
+ */
+@IsolatedDatabaseTest
+class SchedulerLanesIT {
+
+	@Autowired
+	private ConfigurableApplicationContext context;
+
+	@Autowired
+	private ScheduledTaskHolder scheduledTaskHolder;
+
+	@Test
+	@DisplayName("Should run each scheduled job family on its own lane")
+	void routesScheduledMethodsToTheirLanes() {
+		LaneRouter router = new LaneRouter();
+		router.setBeanFactory(context.getBeanFactory());
+
+		Map<String, TaskScheduler> schedulerByTask = scheduledTaskHolder.getScheduledTasks().stream()
+				.collect(Collectors.toMap(LaneRouter::methodName,
+						task -> router.determineTargetScheduler(task.getTask().getRunnable())));
+
+		// PartnerRegistrationScheduler only exists in the prod profile.
+		assertThat(schedulerByTask).containsOnly(
+				Map.entry("PowerwallScheduleExecutor.executeSchedules", lane(SchedulerLanesConfig.EXECUTION_LANE)),
+				Map.entry("PowerwallScheduleExecutor.purgeExpiredClaims", lane("taskScheduler")),
+				Map.entry("MisfireHandlingService.retryDeferredEvents", lane(SchedulerLanesConfig.EXECUTION_LANE)),
+				Map.entry("PowerwallStateReconciler.reconcileContinuously", lane(SchedulerLanesConfig.RECONCILIATION_LANE)),
+				Map.entry("TokenRefreshScheduler.proactivelyRefreshTokens", lane(SchedulerLanesConfig.TOKEN_REFRESH_LANE)),
+				Map.entry("HistoryRetentionJob.purgeExpiredHistory", lane("taskScheduler")));
+	}
+
+	private TaskScheduler lane(String beanName) {
+		return context.getBean(beanName, TaskScheduler.class);
+	}
+
+	/**
+	 * Exposes the routing decision Spring makes for each scheduled task.
+	 */
+	private static class LaneRouter extends TaskSchedulerRouter {
+
+		@Override
+		protected TaskScheduler determineTargetScheduler(Runnable task) {
+			return super.determineTargetScheduler(task);
+		}
+
+		static String methodName(ScheduledTask task) {
+			String method = task.toString();
+			String qualified = method.substring(0, method.lastIndexOf('.'));
+			return qualified.substring(qualified.lastIndexOf('.') + 1) + method.substring(method.lastIndexOf('.'));
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.infrastructure.vendors.tesla.budget;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.icewheel.energy.config.TeslaCallBudgetConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TeslaCallBudgetTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("Should hand a freed slot to a waiting command before a waiting background call")
+	void commandsBeatBackgroundCalls() throws Exception {
+		TeslaCallBudget budget = new TeslaCallBudget(config(1, Duration.ofSeconds(5)), meterRegistry);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<TeslaCallPriority> order = new CopyOnWriteArrayList<>();
+
+		Thread holder = Thread.ofVirtual().start(() -> TeslaCallPriority.COMMAND.run(() -> budget.execute(() -> {
+			holding.countDown();
+			await(release);
+			return null;
+		})));
+		holding.await(5, TimeUnit.SECONDS);
+
+		Thread background = Thread.ofVirtual().start(() -> TeslaCallPriority.BACKGROUND.run(() ->
+				budget.execute(() -> order.add(TeslaCallPriority.BACKGROUND))));
+		waitUntil(() -> queued("background") == 1);
+		Thread command = Thread.ofVirtual().start(() -> TeslaCallPriority.COMMAND.run(() ->
+				budget.execute(() -> order.add(TeslaCallPriority.COMMAND))));
+		waitUntil(() -> queued("command") == 1);
+
+		release.countDown();
+		holder.join();
+		background.join();
+		command.join();
+
+		assertThat(order).containsExactly(TeslaCallPriority.COMMAND, TeslaCallPriority.BACKGROUND);
+	}
+
+	@Test
+	@DisplayName("Should keep background calls within their share of the budget")
+	void backgroundShareIsCapped() throws Exception {
+		TeslaCallBudget budget = new TeslaCallBudget(config(2, Duration.ofMillis(50)), meterRegistry);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Thread holder = Thread.ofVirtual().start(() -> TeslaCallPriority.BACKGROUND.run(() -> budget.execute(() -> {
+			holding.countDown();
+			await(release);
+			return null;
+		})));
+		holding.await(5, TimeUnit.SECONDS);
+
+		assertThatThrownBy(() -> TeslaCallPriority.BACKGROUND.call(() -> budget.execute(() -> "second")))
+				.isInstanceOf(TeslaCallBudgetExceededException.class);
+		// The remaining slot is still available to a command.
+		assertThat(TeslaCallPriority.COMMAND.call(() -> budget.execute(() -> "command"))).isEqualTo("command");
+
+		release.countDown();
+		holder.join();
+	}
+
+	private double queued(String lane) {
+		return meterRegistry.get("icewheel.tesla.calls.queued").tag("lane", lane).gauge().value();
+	}
+
+	private static TeslaCallBudgetConfig config(int maxConcurrentCalls, Duration acquireTimeout) {
+		TeslaCallBudgetConfig config = new TeslaCallBudgetConfig();
+		config.setMaxConcurrentCalls(maxConcurrentCalls);
+		config.setAcquireTimeout(acquireTimeout);
+		return config;
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
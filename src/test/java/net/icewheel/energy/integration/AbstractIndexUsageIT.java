@@ -0,0 +1,99 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Asserts through {@code EXPLAIN} that every repository lookup is served by an index from the versioned migrations.
+ * Subclasses run the same queries against each supported database.
+ * <p>
+ * Why: Without these checks an index can silently stop matching its query after a repository change, and the
+ * regression only shows once tables are large.
+ * </p>
+ */
+abstract class AbstractIndexUsageIT {
+
+	private static final String USER_ID = "'index-usage-user'";
+	private static final String SOME_UUID = "'00000000-0000-0000-0000-000000000001'";
+
+	/**
+	 * Asserts that the database plans the query with the given index.
+	 *
+	 * @param sql The query to explain.
+	 * @param indexName The index from the migrations that should serve it.
+	 */
+	protected abstract void assertUsesIndex(String sql, String indexName);
+
+	@Test
+	void schedulesByUserUseIndex() {
+		assertUsesIndex("SELECT * FROM powerwall_schedules WHERE user_id = " + USER_ID, "idx_powerwall_schedules_user");
+	}
+
+	@Test
+	void schedulesByGroupUseIndex() {
+		assertUsesIndex("SELECT * FROM powerwall_schedules WHERE schedule_group_id = " + SOME_UUID, "idx_powerwall_schedules_group");
+	}
+
+	@Test
+	void enabledSchedulesUseIndex() {
+		assertUsesIndex("SELECT * FROM powerwall_schedules WHERE enabled = TRUE", "idx_powerwall_schedules_enabled");
+	}
+
+	@Test
+	void schedulePeriodsByUserUseIndex() {
+		assertUsesIndex("SELECT * FROM schedule_periods WHERE user_id = " + USER_ID + " ORDER BY created_at DESC",
+				"idx_schedule_periods_user_created");
+	}
+
+	@Test
+	void executionHistoryPageUsesIndex() {
+		assertUsesIndex("SELECT * FROM schedule_execution_history WHERE user_id = " + USER_ID
+				+ " ORDER BY execution_time DESC, id DESC LIMIT 21", "idx_execution_history_user_time_id");
+	}
+
+	@Test
+	void latestExecutionOfScheduleUsesIndex() {
+		assertUsesIndex("SELECT * FROM schedule_execution_history WHERE schedule_id = " + SOME_UUID
+				+ " ORDER BY execution_time DESC LIMIT 1", "idx_execution_history_schedule_time");
+	}
+
+	@Test
+	void scheduleAuditPageUsesIndex() {
+		assertUsesIndex("SELECT * FROM schedule_audit_events WHERE user_id = " + USER_ID
+				+ " ORDER BY \"timestamp\" DESC, id DESC LIMIT 21", "idx_schedule_audit_events_user_time_id");
+	}
+
+	@Test
+	void latestAccountAuditEventUsesIndex() {
+		assertUsesIndex("SELECT * FROM tesla_account_audit_events WHERE user_id = " + USER_ID
+				+ " ORDER BY \"timestamp\" DESC LIMIT 1", "idx_tesla_account_audit_events_user_time");
+	}
+
+	@Test
+	void tokensByUserUseIndex() {
+		assertUsesIndex("SELECT * FROM tokens WHERE user_id = " + USER_ID + " ORDER BY created_at DESC", "idx_tokens_user_created");
+	}
+
+	@Test
+	void tokensByEmailUseIndex() {
+		assertUsesIndex("SELECT * FROM tokens WHERE email = 'someone@example.com'", "idx_tokens_email");
+	}
+}
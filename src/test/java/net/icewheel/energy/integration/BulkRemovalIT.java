@@ -0,0 +1,190 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import net.icewheel.energy.application.scheduling.PowerwallScheduleService;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
+import net.icewheel.energy.domain.energy.model.ReconciliationMode;
+import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.ScheduleLastFired;
+import net.icewheel.energy.domain.energy.model.SchedulePeriod;
+import net.icewheel.energy.infrastructure.cache.CacheInvalidationBus;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
+import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleAuditEventRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
+import net.icewheel.energy.infrastructure.vendors.tesla.auth.UserService;
+import net.icewheel.energy.infrastructure.vendors.tesla.auth.domain.Token;
+import net.icewheel.energy.infrastructure.vendors.tesla.repository.TokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifies the set-based removal paths: disconnecting a Tesla account and deleting a schedule period.
+ */
+@IsolatedDatabaseTest
+class BulkRemovalIT {
+
+	@Autowired
+	private UserService userService;
+	@Autowired
+	private PowerwallScheduleService scheduleService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TokenRepository tokenRepository;
+	@Autowired
+	private PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private SchedulePeriodRepository periodRepository;
+	@Autowired
+	private ScheduleLastFiredRepository lastFiredRepository;
+	@Autowired
+	private ScheduleAuditEventRepository auditEventRepository;
+	@MockitoSpyBean
+	private CacheInvalidationBus invalidationBus;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		deleteAll();
+		user = new User();
+		user.setId(UUID.randomUUID().toString());
+		user.setEmail("bulk.removal@example.com");
+		user.setName("Bulk Removal");
+		userRepository.save(user);
+	}
+
+	@Test
+	void disconnectDeletesTokensAndDisablesSchedules() {
+		tokenRepository.saveAll(List.of(token("first"), token("second")));
+		PowerwallSchedule[] group = saveScheduleGroup();
+
+		userService.disconnectTeslaAccount(user);
+
+		assertThat(tokenRepository.count()).isZero();
+		assertThat(scheduleRepository.findAllByScheduleGroupId(group[0].getScheduleGroupId()))
+				.hasSize(2)
+				.allSatisfy(schedule -> assertThat(schedule.isEnabled()).isFalse());
+		assertThat(periodRepository.findById(group[0].getScheduleGroupId())).get()
+				.extracting(SchedulePeriod::isEnabled).isEqualTo(false);
+		assertThat(userRepository.existsById(user.getId())).isTrue();
+		verify(invalidationBus).publish(CacheRegions.POWERWALL_SCHEDULES, group[0].getId());
+		verify(invalidationBus).publish(CacheRegions.POWERWALL_SCHEDULES, group[1].getId());
+		verify(invalidationBus, never()).publish(eq(CacheRegions.POWERWALL_SCHEDULES), isNull());
+	}
+
+	@Test
+	void disconnectingAnUnknownUserChangesNothing() {
+		PowerwallSchedule[] group = saveScheduleGroup();
+		User unknown = new User();
+		unknown.setId(UUID.randomUUID().toString());
+
+		userService.disconnectTeslaAccount(unknown);
+
+		assertThat(userRepository.existsById(unknown.getId())).isFalse();
+		assertThat(scheduleRepository.findAllByScheduleGroupId(group[0].getScheduleGroupId()))
+				.allSatisfy(schedule -> assertThat(schedule.isEnabled()).isTrue());
+	}
+
+	@Test
+	void deletingAPeriodRemovesItsEventsAndLastFiredEntries() {
+		PowerwallSchedule[] group = saveScheduleGroup();
+		PowerwallSchedule[] otherGroup = saveScheduleGroup();
+		lastFiredRepository.save(new ScheduleLastFired(group[0].getId(), Instant.parse("2025-08-18T11:00:00Z")));
+		lastFiredRepository.save(new ScheduleLastFired(otherGroup[0].getId(), Instant.parse("2025-08-18T11:00:00Z")));
+
+		scheduleService.deleteSchedulePeriod(group[0].getScheduleGroupId(), user);
+
+		assertThat(scheduleRepository.findAllByScheduleGroupId(group[0].getScheduleGroupId())).isEmpty();
+		assertThat(periodRepository.existsById(group[0].getScheduleGroupId())).isFalse();
+		assertThat(lastFiredRepository.existsById(group[0].getId())).isFalse();
+		assertThat(scheduleRepository.findAllByScheduleGroupId(otherGroup[0].getScheduleGroupId())).hasSize(2);
+		assertThat(lastFiredRepository.existsById(otherGroup[0].getId())).isTrue();
+	}
+
+	// Why: The audit events written by the delete reference the user, which other tests remove without them.
+	@AfterEach
+	void deleteAll() {
+		auditEventRepository.deleteAll();
+		periodRepository.deleteAll();
+		scheduleRepository.deleteAll();
+		tokenRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	private Token token(String name) {
+		Token token = new Token();
+		token.setUser(user);
+		token.setName(name);
+		token.setAccessToken("access-" + name);
+		token.setRefreshToken("refresh-" + name);
+		return token;
+	}
+
+	private PowerwallSchedule[] saveScheduleGroup() {
+		UUID groupId = UUID.randomUUID();
+		PowerwallSchedule onPeak = schedule(groupId, ScheduleEventType.START_DISCHARGE, LocalTime.of(7, 0), 20);
+		PowerwallSchedule offPeak = schedule(groupId, ScheduleEventType.START_CHARGE, LocalTime.of(21, 0), 80);
+		scheduleRepository.saveAll(List.of(onPeak, offPeak));
+		periodRepository.save(SchedulePeriod.of(onPeak, offPeak));
+		return new PowerwallSchedule[] {onPeak, offPeak};
+	}
+
+	private PowerwallSchedule schedule(UUID groupId, ScheduleEventType eventType, LocalTime time, int backupPercent) {
+		PowerwallSchedule schedule = new PowerwallSchedule();
+		schedule.setId(UUID.randomUUID());
+		schedule.setScheduleGroupId(groupId);
+		schedule.setUser(user);
+		schedule.setName("Weekday Saver");
+		schedule.setEnergySiteId("SITE_ID_12345");
+		schedule.setDaysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+		schedule.setTimeZone(ZoneId.of("America/New_York"));
+		schedule.setEnabled(true);
+		schedule.setReconciliationMode(ReconciliationMode.CONTINUOUS);
+		schedule.setEventType(eventType);
+		schedule.setScheduledTime(time);
+		schedule.setBackupPercent(backupPercent);
+		schedule.setCronExpression(String.format("0 %d %d ? * MON,TUE", time.getMinute(), time.getHour()));
+		return schedule;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.infrastructure.cache.CacheRegions;
+import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that read-mostly entities are served from the second-level cache and that writes evict them.
+ */
+@IsolatedDatabaseTest
+class EntityCacheIT {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		userRepository.findById("cache-user").ifPresent(userRepository::delete);
+	}
+
+	@Test
+	void repeatedLookupsOfAUserAreCacheHits() {
+		User user = new User();
+		user.setId("cache-user");
+		user.setEmail("cache.user@example.com");
+		user.setName("Cached");
+		userRepository.save(user);
+		statistics.clear();
+
+		userRepository.findById("cache-user");
+		userRepository.findById("cache-user");
+		userRepository.findByEmail("cache.user@example.com");
+
+		CacheRegionStatistics users = statistics.getCacheRegionStatistics(CacheRegions.USERS);
+		assertThat(users.getHitCount()).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	void writesAreVisibleToTheNextRead() {
+		User user = new User();
+		user.setId("cache-user");
+		user.setEmail("cache.user@example.com");
+		user.setName("Before");
+		userRepository.save(user);
+		assertThat(userRepository.findByEmail("cache.user@example.com")).get().extracting(User::getName).isEqualTo("Before");
+
+		User loaded = userRepository.findById("cache-user").orElseThrow();
+		loaded.setName("After");
+		userRepository.save(loaded);
+
+		assertThat(userRepository.findById("cache-user")).get().extracting(User::getName).isEqualTo("After");
+		assertThat(userRepository.findByEmail("cache.user@example.com")).get().extracting(User::getName).isEqualTo("After");
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index usage on an in-memory H2 database.
+ */
+@IsolatedDatabaseTest
+class H2IndexUsageIT extends AbstractIndexUsageIT {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	protected void assertUsesIndex(String sql, String indexName) {
+		String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+		// Why: H2 names the chosen index in a comment after each table, e.g. /* public.idx_tokens_email: ... */, or
+		// "tableScan" when it has none.
+		assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+		// Why: The H2 migrations leave lookups by user_id to the index H2 creates for the user_id foreign key.
+		if (indexExists(indexName)) {
+			assertThat(plan).as(plan).containsIgnoringCase(indexName);
+		}
+	}
+
+	private boolean indexExists(String indexName) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = ?",
+				Integer.class, indexName) > 0;
+	}
+}
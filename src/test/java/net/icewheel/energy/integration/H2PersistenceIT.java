@@ -19,23 +19,35 @@
 
 package net.icewheel.energy.integration;
 
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
+import net.icewheel.energy.domain.energy.model.ScheduleEventType;
+import net.icewheel.energy.domain.energy.model.ScheduleLastFired;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleAuditEventRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleLastFiredRepository;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -69,6 +81,12 @@ class H2PersistenceIT {
     @Autowired
     private ScheduleAuditEventRepository auditRepository;
 
+	@Autowired
+	private PowerwallScheduleRepository scheduleRepository;
+
+	@Autowired
+	private ScheduleLastFiredRepository lastFiredRepository;
+
     @Test
     void shouldPersistAndQueryUserAndAuditEvent_onH2() {
         // Arrange: create a user with JSON profile attributes
@@ -104,11 +122,73 @@ class H2PersistenceIT {
         auditRepository.save(event);
 
         // Assert: query back by user ordered by timestamp desc
-		Pageable pageable = PageRequest.of(0, 5, Sort.by("timestamp").descending());
-		Page<ScheduleAuditEvent> eventsPage = auditRepository.findByUser(found.get(), pageable);
+		Slice<ScheduleAuditEvent> eventsPage = auditRepository.findLatestByUser(found.get(), PageRequest.of(0, 5));
 		assertThat(eventsPage.getContent()).isNotEmpty();
 		assertThat(eventsPage.getContent().get(0).getDetails())
                 .isNotNull()
                 .containsEntry("key", "value");
     }
+
+	@Test
+	void shouldWalkAuditEventsByKeysetWithoutGapsOrDuplicates_onH2() {
+		User user = new User();
+		user.setId("user-h2-keyset");
+		user.setName("Keyset Tester");
+		user.setEmail("keyset.tester@example.com");
+		userRepository.save(user);
+
+		for (int i = 0; i < 5; i++) {
+			ScheduleAuditEvent event = new ScheduleAuditEvent();
+			event.setScheduleGroupId(UUID.randomUUID());
+			event.setUser(user);
+			event.setScheduleName("Keyset-" + i);
+			event.setAction(ScheduleAuditEvent.AuditAction.UPDATED);
+			auditRepository.save(event);
+		}
+
+		Pageable pageable = PageRequest.of(0, 2);
+		List<String> seen = new ArrayList<>();
+		Slice<ScheduleAuditEvent> slice = auditRepository.findLatestByUser(user, pageable);
+		slice.forEach(e -> seen.add(e.getScheduleName()));
+		while (slice.hasNext()) {
+			ScheduleAuditEvent last = slice.getContent().getLast();
+			slice = auditRepository.findByUserBefore(user, last.getTimestamp(), last.getId(), pageable);
+			slice.forEach(e -> seen.add(e.getScheduleName()));
+		}
+
+		assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+		assertThat(auditRepository.countByUserIdUpTo(user.getId(), 3)).isEqualTo(3);
+	}
+
+	@Test
+	void shouldOnlyMoveTheLastFiredTimeForward_onH2() {
+		User user = new User();
+		user.setId("user-h2-last-fired");
+		user.setName("Last Fired Tester");
+		user.setEmail("last.fired.tester@example.com");
+		userRepository.save(user);
+		PowerwallSchedule schedule = new PowerwallSchedule();
+		schedule.setId(UUID.randomUUID());
+		schedule.setScheduleGroupId(UUID.randomUUID());
+		schedule.setUser(user);
+		schedule.setName("Last-Fired");
+		schedule.setEnergySiteId("SITE_ID_12345");
+		schedule.setDaysOfWeek(Set.of(DayOfWeek.MONDAY));
+		schedule.setTimeZone(ZoneId.of("UTC"));
+		schedule.setEventType(ScheduleEventType.START_DISCHARGE);
+		schedule.setScheduledTime(LocalTime.of(7, 0));
+		schedule.setBackupPercent(20);
+		schedule.setCronExpression("0 0 7 ? * MON");
+		scheduleRepository.save(schedule);
+		Instant monday = Instant.parse("2025-08-18T07:00:00Z");
+
+		lastFiredRepository.advance(schedule.getId(), monday);
+		lastFiredRepository.advance(schedule.getId(), monday.minus(7, ChronoUnit.DAYS));
+		assertThat(lastFiredRepository.findById(schedule.getId())).get()
+				.extracting(ScheduleLastFired::getLastFiredAt).isEqualTo(monday);
+
+		lastFiredRepository.advance(schedule.getId(), monday.plus(7, ChronoUnit.DAYS));
+		assertThat(lastFiredRepository.findById(schedule.getId())).get()
+				.extracting(ScheduleLastFired::getLastFiredAt).isEqualTo(monday.plus(7, ChronoUnit.DAYS));
+	}
 }
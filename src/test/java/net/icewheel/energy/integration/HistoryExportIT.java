@@ -0,0 +1,231 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.icewheel.energy.application.scheduling.HistoryExportFormat;
+import net.icewheel.energy.application.scheduling.HistoryExportService;
+import net.icewheel.energy.domain.auth.model.User;
+import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
+import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
+import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleAuditEventRepository;
+import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the streaming NDJSON and CSV exports of execution history and schedule audit events.
+ */
+@IsolatedDatabaseTest
+@AutoConfigureMockMvc
+class HistoryExportIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private HistoryExportService exportService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private ScheduleExecutionHistoryRepository historyRepository;
+	@Autowired
+	private ScheduleAuditEventRepository auditEventRepository;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User user;
+	private final UUID groupId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setId(UUID.randomUUID().toString());
+		user.setEmail("history.export@example.com");
+		user.setName("History Export");
+		userRepository.save(user);
+	}
+
+	@AfterEach
+	void tearDown() {
+		auditEventRepository.deleteAll();
+		historyRepository.deleteAll();
+		userRepository.delete(user);
+	}
+
+	@Test
+	void exportsExecutionsAsNdjsonNewestFirst() throws IOException {
+		historyRepository.save(execution(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED, (short) 20));
+		historyRepository.save(execution(ScheduleExecutionHistory.Outcome.SCHEDULE_ALREADY_SET, (short) 80));
+		historyRepository.save(otherUsersExecution());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long rows = exportService.exportExecutions(user, null, null, HistoryExportFormat.NDJSON, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(rows).isEqualTo(2);
+		assertThat(lines).hasSize(2);
+		JsonNode newest = objectMapper.readTree(lines.get(0));
+		assertThat(newest.get("outcome").asText()).isEqualTo("SCHEDULE_ALREADY_SET");
+		assertThat(newest.get("target_percent").asInt()).isEqualTo(80);
+		assertThat(newest.get("details").asText()).startsWith("Skipped 'start charging (off-peak)' action.");
+		assertThat(newest.get("schedule_group_id").asText()).isEqualTo(groupId.toString());
+	}
+
+	@Test
+	void rendersReconciliationDetailsWithTheScheduleName() throws IOException {
+		ScheduleExecutionHistory check = execution(ScheduleExecutionHistory.Outcome.RECONCILIATION_ALREADY_SET, (short) 80);
+		check.setExecutionType(ScheduleExecutionHistory.ExecutionType.RECONCILIATION_CONTINUOUS);
+		historyRepository.save(check);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportExecutions(user, null, null, HistoryExportFormat.NDJSON, out);
+
+		JsonNode row = objectMapper.readTree(out.toString(StandardCharsets.UTF_8).lines().findFirst().orElseThrow());
+		assertThat(row.get("details").asText())
+				.isEqualTo("Automatic check during an off-peak period for schedule 'Weekday Saver'."
+						+ " The Powerwall's backup reserve is already correctly set to 80%. No action was needed.");
+	}
+
+	@Test
+	void streamsTheExecutionExportAsAnAttachment() throws Exception {
+		historyRepository.save(execution(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED, (short) 20));
+
+		MvcResult started = mockMvc.perform(get("/api/schedules/executions/export").param("format", "csv").param("gzip", "false")
+						.with(loginUser()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"schedule-executions.csv\""))
+				.andExpect(content().string(startsWith("id,execution_time,")));
+	}
+
+	@Test
+	void rejectsAnUnsupportedExportFormat() throws Exception {
+		mockMvc.perform(get("/api/schedules/executions/export").param("format", "xml").with(loginUser()))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void turnsAwayExportsBeyondTheConcurrencyLimit() {
+		HistoryExportService.ExportSlot first = exportService.tryReserveExport().orElseThrow();
+		HistoryExportService.ExportSlot second = exportService.tryReserveExport().orElseThrow();
+
+		assertThat(exportService.tryReserveExport()).isEmpty();
+
+		first.close();
+		first.close();
+		HistoryExportService.ExportSlot third = exportService.tryReserveExport().orElseThrow();
+		assertThat(exportService.tryReserveExport()).isEmpty();
+		second.close();
+		third.close();
+	}
+
+	@Test
+	void exportsAuditEventsAsCsvWithEmbeddedDetails() throws IOException {
+		ScheduleAuditEvent event = new ScheduleAuditEvent();
+		event.setUser(user);
+		event.setScheduleGroupId(groupId);
+		event.setScheduleName("Weekday \"Saver\"");
+		event.setAction(ScheduleAuditEvent.AuditAction.CREATED);
+		event.setDetails(Map.of("info", "Schedule period was created."));
+		auditEventRepository.save(event);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportAuditEvents(user, null, null, HistoryExportFormat.CSV, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(0)).isEqualTo("id,timestamp,schedule_group_id,schedule_name,action,details");
+		assertThat(lines.get(1))
+				.contains("\"Weekday \"\"Saver\"\"\"")
+				.contains("\"CREATED\"")
+				.contains("\"Schedule period was created.\"\"}\"");
+	}
+
+	@Test
+	void exportsOnlyTheRequestedTimeRange() throws IOException {
+		historyRepository.save(execution(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED, (short) 20));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long rows = exportService.exportExecutions(user, null, Instant.now().minus(1, ChronoUnit.HOURS), HistoryExportFormat.NDJSON, out);
+
+		assertThat(rows).isZero();
+		assertThat(out.size()).isZero();
+	}
+
+	private RequestPostProcessor loginUser() {
+		DefaultOAuth2User principal = new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("ROLE_USER")),
+				Map.of("sub", user.getId(), "email", user.getEmail(), "name", user.getName()), "sub");
+		return oauth2Login().oauth2User(principal);
+	}
+
+	private ScheduleExecutionHistory execution(ScheduleExecutionHistory.Outcome outcome, short targetPercent) {
+		ScheduleExecutionHistory entry = new ScheduleExecutionHistory();
+		entry.setScheduleId(UUID.randomUUID());
+		entry.setScheduleGroupId(groupId);
+		entry.setScheduleName("Weekday Saver");
+		entry.setUserId(user.getId());
+		entry.setStatus(outcome == ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED
+				? ScheduleExecutionHistory.ExecutionStatus.SUCCESS : ScheduleExecutionHistory.ExecutionStatus.SKIPPED);
+		entry.setOutcome(outcome);
+		entry.setOnPeak(targetPercent < 50);
+		entry.setTargetPercent(targetPercent);
+		entry.setExecutionType(ScheduleExecutionHistory.ExecutionType.REGULAR);
+		return entry;
+	}
+
+	private ScheduleExecutionHistory otherUsersExecution() {
+		ScheduleExecutionHistory entry = execution(ScheduleExecutionHistory.Outcome.SCHEDULE_APPLIED, (short) 30);
+		entry.setUserId("someone-else");
+		return entry;
+	}
+}
@@ -35,6 +35,8 @@ import net.icewheel.energy.domain.energy.model.ScheduleExecutionHistory;
 import net.icewheel.energy.infrastructure.repository.auth.UserRepository;
 import net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository;
 import net.icewheel.energy.infrastructure.repository.energy.ScheduleExecutionHistoryRepository;
+import net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository;
+import net.icewheel.energy.infrastructure.vendors.tesla.services.LastKnownSiteStateStore;
 import net.icewheel.energy.infrastructure.vendors.tesla.services.TeslaEnergyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,7 +51,11 @@ import org.springframework.test.annotation.DirtiesContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -90,12 +96,16 @@ class MultiUserSchedulerFailureIT {
 	@Autowired
 	private PowerwallScheduleRepository scheduleRepository;
 	@Autowired
+	private SchedulePeriodRepository periodRepository;
+	@Autowired
 	private ScheduleExecutionHistoryRepository historyRepository;
 	@Autowired
 	private UserRepository userRepository;
 	@Autowired
 	private TeslaEnergyService teslaEnergyService;
 	@Autowired
+	private LastKnownSiteStateStore siteStateStore;
+	@Autowired
 	private Clock clock;
 
 	private final ZoneId userTz = ZoneId.of("America/New_York");
@@ -103,6 +113,7 @@ class MultiUserSchedulerFailureIT {
 	@BeforeEach
 	void cleanDb() {
 		historyRepository.deleteAll();
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		userRepository.deleteAll();
 	}
@@ -150,6 +161,51 @@ class MultiUserSchedulerFailureIT {
 		// Sanity: Even with an exception for Charlie, we still have records for Alice and Bob
 	}
 
+	@Test
+	void scheduler_dispatches_each_event_at_most_once_when_the_same_minute_is_run_twice() {
+		User alice = createUser("alice");
+		createHourlyTopOfHourSchedule(alice, "siteA", 30);
+		when(teslaEnergyService.setBackupReserve(eq(alice.getId()), eq("siteA"), anyInt())).thenReturn(true);
+
+		// Simulates a second node taking over the lock and re-running the same minute
+		executor.executeSchedules();
+		executor.executeSchedules();
+
+		verify(teslaEnergyService, times(1)).setBackupReserve(eq(alice.getId()), eq("siteA"), anyInt());
+		assertThat(historyRepository.findAll()).hasSize(1);
+	}
+
+	@Test
+	void scheduler_sends_one_command_per_site_when_several_schedules_are_due() {
+		User alice = createUser("alice");
+		createHourlyTopOfHourSchedule(alice, "siteA", 30);
+		createHourlyTopOfHourSchedule(alice, "siteA", 60);
+		when(teslaEnergyService.setBackupReserve(eq(alice.getId()), eq("siteA"), anyInt())).thenReturn(true);
+
+		executor.executeSchedules();
+
+		// Both are off-peak (charge) events, so the highest reserve wins
+		verify(teslaEnergyService, times(1)).setBackupReserve(eq(alice.getId()), eq("siteA"), anyInt());
+		verify(teslaEnergyService).setBackupReserve(alice.getId(), "siteA", 60);
+		List<ScheduleExecutionHistory> history = historyRepository.findAll();
+		assertThat(history).hasSize(2)
+				.allSatisfy(run -> assertThat(run.getStatus()).isEqualTo(ScheduleExecutionHistory.ExecutionStatus.SUCCESS));
+	}
+
+	@Test
+	void scheduler_skips_the_command_when_the_site_is_known_to_be_at_the_target_already() {
+		User alice = createUser("alice");
+		createHourlyTopOfHourSchedule(alice, "siteA", 30);
+		// E.g. a reconciliation just read site_info for this site
+		siteStateStore.recordBackupReserve("siteA", 30);
+
+		executor.executeSchedules();
+
+		verify(teslaEnergyService, never()).setBackupReserve(anyString(), anyString(), anyInt());
+		assertThat(historyRepository.findAll()).singleElement()
+				.satisfies(run -> assertThat(run.getStatus()).isEqualTo(ScheduleExecutionHistory.ExecutionStatus.SKIPPED));
+	}
+
 	// Helper: Create a simple schedule that triggers every hour at minute 0 in user's timezone
 	private void createHourlyTopOfHourSchedule(User user, String siteId, int backupPercent) {
 		PowerwallSchedule schedule = new PowerwallSchedule();
@@ -0,0 +1,79 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Index usage on PostgreSQL, including the partitioned execution history. Skipped when Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresIndexUsageIT extends AbstractIndexUsageIT {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	protected void assertUsesIndex(String sql, String indexName) {
+		String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				// Why: The test tables are nearly empty, where a sequential scan is always cheapest; disabling it shows
+				// whether an index could serve the query at all.
+				statement.execute("SET enable_seqscan = off");
+				List<String> lines = new ArrayList<>();
+				try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+					while (rs.next()) {
+						lines.add(rs.getString(1));
+					}
+				}
+				statement.execute("RESET enable_seqscan");
+				return String.join("\n", lines);
+			}
+		});
+		// Why: On the partitioned history table the plan names each partition's copy of the index, so the check is
+		// that no table is scanned sequentially rather than a specific index name.
+		assertThat(plan).as(plan).contains("Index").doesNotContain("Seq Scan");
+		if (!sql.contains("schedule_execution_history")) {
+			assertThat(plan).as(plan).contains(indexName);
+		}
+	}
+}
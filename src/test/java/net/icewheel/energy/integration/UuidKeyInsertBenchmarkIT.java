@@ -0,0 +1,98 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.integration;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import net.icewheel.energy.shared.id.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares random (v4) and time-ordered (v7) UUID primary keys on PostgreSQL: insert throughput and the size of the
+ * primary-key index after the same number of rows. Skipped when Docker is not available.
+ * <p>
+ * Why: The v7 keys were adopted for the high-insert tables on the grounds that they append to the index instead of
+ * splitting random leaf pages. This keeps that claim measured; the numbers are logged for comparison across runs.
+ * </p>
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class UuidKeyInsertBenchmarkIT {
+
+	private static final int ROWS = 200_000;
+	private static final int BATCH_SIZE = 1_000;
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Test
+	void timeOrderedKeysKeepThePrimaryKeyIndexSmaller() throws SQLException {
+		try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+			Result random = insert(connection, "uuid_v4_bench", UUID::randomUUID);
+			Result timeOrdered = insert(connection, "uuid_v7_bench", UuidV7::generate);
+
+			log.info("UUID v4: {} rows/s, primary key index {} kB", random.rowsPerSecond(), random.indexBytes() / 1024);
+			log.info("UUID v7: {} rows/s, primary key index {} kB", timeOrdered.rowsPerSecond(), timeOrdered.indexBytes() / 1024);
+
+			// Why: Random inserts leave B-tree pages about half to three quarters full after splits, while appends
+			// fill each page before starting the next. Throughput is only logged because it depends on the host.
+			assertThat(timeOrdered.indexBytes()).isLessThan(random.indexBytes());
+		}
+	}
+
+	private Result insert(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, created_at timestamptz NOT NULL DEFAULT now(), payload text)");
+		}
+		long started = System.nanoTime();
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+			for (int i = 1; i <= ROWS; i++) {
+				insert.setObject(1, ids.get());
+				insert.setString(2, "row " + i);
+				insert.addBatch();
+				if (i % BATCH_SIZE == 0) {
+					insert.executeBatch();
+				}
+			}
+		}
+		long elapsedNanos = System.nanoTime() - started;
+		try (Statement statement = connection.createStatement();
+				ResultSet rs = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+			rs.next();
+			return new Result(ROWS * 1_000_000_000L / elapsedNanos, rs.getLong(1));
+		}
+	}
+
+	private record Result(long rowsPerSecond, long indexBytes) {
+	}
+}
@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 import net.icewheel.energy.api.rest.dto.ScheduleHistoryResponse;
+import net.icewheel.energy.api.rest.dto.ScheduleHistorySliceResponse;
 import net.icewheel.energy.domain.auth.model.User;
 import net.icewheel.energy.domain.energy.model.PowerwallSchedule;
 import net.icewheel.energy.domain.energy.model.ScheduleAuditEvent;
@@ -38,7 +39,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.Page;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
@@ -71,6 +71,8 @@ class SchedulePageControllerSecurityIT {
 
 	@Autowired
 	private net.icewheel.energy.infrastructure.repository.energy.PowerwallScheduleRepository scheduleRepository;
+	@Autowired
+	private net.icewheel.energy.infrastructure.repository.energy.SchedulePeriodRepository periodRepository;
 
 	@MockBean
 	private TokenService tokenService;
@@ -81,6 +83,7 @@ class SchedulePageControllerSecurityIT {
 	@BeforeEach
 	void setup() {
 		auditEventRepository.deleteAll();
+		periodRepository.deleteAll();
 		scheduleRepository.deleteAll();
 		executionHistoryRepository.deleteAll();
 		userRepository.deleteAll();
@@ -137,13 +140,13 @@ class SchedulePageControllerSecurityIT {
 
 		// THEN: The model should contain a page with only that user's audit events
 		Object historyPageObj = result.getModelAndView().getModel().get("historyPage");
-		assertThat(historyPageObj).isInstanceOf(Page.class);
+		assertThat(historyPageObj).isInstanceOf(ScheduleHistorySliceResponse.class);
 
-		@SuppressWarnings("unchecked")
-		Page<ScheduleHistoryResponse> historyPage = (Page<ScheduleHistoryResponse>) historyPageObj;
+		ScheduleHistorySliceResponse historyPage = (ScheduleHistorySliceResponse) historyPageObj;
 
-		assertThat(historyPage.getTotalElements()).isEqualTo(2);
-		assertThat(historyPage.getContent())
+		assertThat(historyPage.getApproximateCount()).isEqualTo(2);
+		assertThat(historyPage.getNextCursor()).isNull();
+		assertThat(historyPage.getItems())
 				.extracting(ScheduleHistoryResponse::getScheduleName)
 				.containsExactlyInAnyOrder("A-Name-1", "A-Name-2");
 	}
@@ -169,11 +172,11 @@ class SchedulePageControllerSecurityIT {
 
 		// THEN: The model should contain a page with only that user's execution events
 		Object executionPageObj = result.getModelAndView().getModel().get("executionPage");
-		assertThat(executionPageObj).isInstanceOf(Page.class);
-		@SuppressWarnings("unchecked")
-		Page<ScheduleHistoryResponse> executionPage = (Page<ScheduleHistoryResponse>) executionPageObj;
-		assertThat(executionPage.getTotalElements()).isEqualTo(2);
-		assertThat(executionPage.getContent())
+		assertThat(executionPageObj).isInstanceOf(ScheduleHistorySliceResponse.class);
+		ScheduleHistorySliceResponse executionPage = (ScheduleHistorySliceResponse) executionPageObj;
+		assertThat(executionPage.getApproximateCount()).isEqualTo(2);
+		assertThat(executionPage.getNextCursor()).isNull();
+		assertThat(executionPage.getItems())
 				.extracting(ScheduleHistoryResponse::getScheduleName)
 				.containsExactlyInAnyOrder("Test-A-Group-1", "Test-A-Group-2");
 	}
@@ -189,8 +192,6 @@ class SchedulePageControllerSecurityIT {
 		e.setExecutionTime(Instant.now());
 		e.setStatus(ScheduleExecutionHistory.ExecutionStatus.SUCCESS);
 		e.setDetails("ok");
-		e.setCronExpression("0 0 * * * ?");
-		e.setCronDescription("hourly");
 		e.setExecutionType(ScheduleExecutionHistory.ExecutionType.REGULAR);
 		return e;
 	}
@@ -0,0 +1,54 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DayOfWeekSetConverterTest {
+
+	private final DayOfWeekSetConverter converter = new DayOfWeekSetConverter();
+
+	@Test
+	@DisplayName("Should store Monday in the lowest bit and Sunday in the highest")
+	void bitLayout() {
+		assertThat(converter.convertToDatabaseColumn(Set.of(DayOfWeek.MONDAY))).isEqualTo(1);
+		assertThat(converter.convertToDatabaseColumn(Set.of(DayOfWeek.SUNDAY))).isEqualTo(64);
+		assertThat(converter.convertToDatabaseColumn(EnumSet.allOf(DayOfWeek.class))).isEqualTo(127);
+		assertThat(converter.convertToDatabaseColumn(null)).isZero();
+	}
+
+	@Test
+	@DisplayName("Should round-trip a set of days as an EnumSet")
+	void roundTrip() {
+		Set<DayOfWeek> weekdays = Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+
+		Set<DayOfWeek> loaded = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(weekdays));
+
+		assertThat(loaded).isInstanceOf(EnumSet.class).isEqualTo(weekdays);
+		assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+	}
+}
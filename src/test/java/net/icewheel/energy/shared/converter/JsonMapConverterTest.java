@@ -0,0 +1,67 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.converter;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonMapConverterTest {
+
+	private final JsonMapConverter converter = new JsonMapConverter();
+
+	@Test
+	@DisplayName("Should round-trip a map through the JSON column")
+	void roundTrip() {
+		String json = converter.convertToDatabaseColumn(Map.of("info", "created", "attempt", 1));
+
+		Map<String, Object> loaded = converter.convertToEntityAttribute(json);
+
+		assertThat(loaded).containsEntry("info", "created").containsEntry("attempt", 1);
+	}
+
+	@Test
+	@DisplayName("Should not parse the column until the map is read")
+	void parsesLazily() {
+		Map<String, Object> loaded = converter.convertToEntityAttribute("{\"info\":\"created\"}");
+
+		assertThat(loaded).isInstanceOf(LazyJsonMap.class);
+		LazyJsonMap lazy = (LazyJsonMap) loaded;
+		assertThat(lazy.isParsed()).isFalse();
+		// An unread map is written back verbatim and compared by its raw text.
+		assertThat(converter.convertToDatabaseColumn(lazy)).isEqualTo("{\"info\":\"created\"}");
+		assertThat(lazy).isEqualTo(converter.convertToEntityAttribute("{\"info\":\"created\"}"));
+		assertThat(lazy.isParsed()).isFalse();
+
+		assertThat(lazy.get("info")).isEqualTo("created");
+		assertThat(lazy.isParsed()).isTrue();
+	}
+
+	@Test
+	@DisplayName("Should map null and blank columns to null")
+	void handlesNulls() {
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+		assertThat(converter.convertToEntityAttribute(" ")).isNull();
+	}
+}
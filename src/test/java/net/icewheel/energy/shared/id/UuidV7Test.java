@@ -0,0 +1,68 @@
+/*
+ * IceWheel Energy
+ * Copyright (C) 2025 IceWheel LLC
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package net.icewheel.energy.shared.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+	@Test
+	@DisplayName("Should set the version 7 and RFC 9562 variant bits")
+	void versionAndVariant() {
+		UUID id = UuidV7.generate();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Should carry the generation time in the leading 48 bits")
+	void embedsTimestamp() {
+		Instant now = Instant.parse("2030-01-01T00:00:00Z");
+
+		UUID id = UuidV7.generate(Clock.fixed(now, ZoneOffset.UTC));
+
+		assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(now.toEpochMilli());
+	}
+
+	@Test
+	@DisplayName("Should increase strictly within one millisecond and when the clock steps backwards")
+	void strictlyIncreasing() {
+		Clock fixed = Clock.fixed(Instant.parse("2031-06-01T12:00:00Z"), ZoneOffset.UTC);
+		Clock earlier = Clock.fixed(Instant.parse("2031-06-01T11:59:59Z"), ZoneOffset.UTC);
+		List<UUID> ids = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(UuidV7.generate(fixed));
+		}
+		ids.add(UuidV7.generate(earlier));
+
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+	}
+}